@@ -18,6 +18,8 @@ package org.noear.eggg;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 类包装器
@@ -28,27 +30,56 @@ import java.util.*;
 public class ClassEggg implements AnnotatedEggg {
     private final TypeEggg typeEggg;
 
-    private final Object digest;
+    //构造的最后才赋值（提前发布的实例会被其它线程看到，用 volatile 安全发布）
+    private volatile Object digest;
     private ConstrEggg creator;
 
-    private final List<ConstrEggg> constrEgggs;
+    private List<ConstrEggg> constrEgggs = Collections.emptyList();
 
     private final List<FieldEggg> allFieldEgggs = new ArrayList<>();
-    private final Map<String, FieldEggg> allFieldEgggsForName;
-    private final Map<String, FieldEggg> allFieldEgggsForAlias;
+    private Map<String, FieldEggg> allFieldEgggsForName = Collections.emptyMap();
+    private Map<String, FieldEggg> allFieldEgggsForAlias = Collections.emptyMap();
 
-    private final Map<Method, MethodEggg> ownMethodEgggsMap; //own.public + own.declared
-    private final List<MethodEggg> ownMethodEgggs;
-    private final List<MethodEggg> publicMethodEgggs;
-    private final List<MethodEggg> declaredMethodEgggs;
+    private final Map<Method, MethodEggg> ownMethodEgggsMap = new ConcurrentHashMap<>(); //own.public + own.declared
+    private List<MethodEggg> ownMethodEgggs = Collections.emptyList();
+    private List<MethodEggg> publicMethodEgggs = Collections.emptyList();
+    private List<MethodEggg> declaredMethodEgggs = Collections.emptyList();
+    private Method[] methods;
 
     private final Map<String, PropertyEggg> propertyEgggsForName = new LinkedHashMap<>();
-    private final Map<String, PropertyEggg> propertyEgggsForAlias;
+    private Map<String, PropertyEggg> propertyEgggsForAlias = Collections.emptyMap();
 
     private boolean likeRecordClass = true;
     private final boolean realRecordClass;
 
+    //各部分的加载状态（volatile 写发生在部分数据填充之后，保证安全发布）
+    private volatile boolean fieldsLoaded;
+    private volatile boolean methodsLoaded;
+    private volatile boolean propertiesLoaded;
+    private volatile boolean constrsLoaded;
+    //各部分是否正在加载（在锁内读写；同线程重入时返回已加载的部分，不重复加载）
+    private boolean fieldsLoading;
+    private boolean methodsLoading;
+    private boolean propertiesLoading;
+    private boolean constrsLoading;
+    //各部分的加载锁（处理器在锁内执行，不用 synchronized：等待要登记到 EgggLoader，与构建的等待一起发现环）
+    private final ReentrantLock sectionLock = new ReentrantLock();
+    private volatile Thread sectionOwner;
+    private final EgggLoader.Waitable sectionWaitable = new EgggLoader.Waitable() {
+        @Override
+        public Thread getWaitOwner() {
+            return sectionOwner;
+        }
+
+        @Override
+        public void awaitQuietly() {
+            sectionLock.lock();
+            sectionLock.unlock();
+        }
+    };
+
     private final Eggg eggg;
+    private final IntrospectionProfile profile;
 
     public ClassEggg(Eggg eggg, TypeEggg typeEggg) {
         Objects.requireNonNull(eggg, "eggg");
@@ -56,52 +87,274 @@ public class ClassEggg implements AnnotatedEggg {
 
         this.eggg = eggg;
         this.typeEggg = typeEggg;
+        this.profile = eggg.getProfile();
         this.realRecordClass = JavaUtil.isRecordClass(typeEggg.getType()); //不能放下面(构造器要用到)
 
-        //1.加载字段
-        loadFields();
+        //提前发布（处理器在构建期间获取自己或相互引用的类型时，拿到的是这个实例；此时 digest 还没有生成）
+        eggg.publishEarly(this);
+
+        if (eggg.isLazy() == false) {
+            //1.加载字段
+            ensureFields();
+            //2.加载方法
+            ensureMethods();
+            ensureProperties();
+            //3.加构造器（顺序不能乱）
+            ensureConstrs();
+        }
 
-        this.likeRecordClass = likeRecordClass && allFieldEgggs.size() > 0;
-        allFieldEgggsForName = new LinkedHashMap<>(allFieldEgggs.size());
-        allFieldEgggsForAlias = new LinkedHashMap<>(allFieldEgggs.size());
-        for (FieldEggg fe : allFieldEgggs) {
-            allFieldEgggsForName.put(fe.getName(), fe);
-            allFieldEgggsForAlias.put(fe.getAlias(), fe);
+        this.digest = eggg.findDigest(this, this, null);
+    }
+
+    /// /////////////////
+    // 分部加载（延迟模式下，首次访问时才加载）
+
+    private void ensureFields() {
+        if (fieldsLoaded == false) {
+            loadSection(this::loadFieldsSection);
         }
+    }
 
+    private void ensureMethods() {
+        if (methodsLoaded == false) {
+            loadSection(this::loadMethodsSection);
+        }
+    }
 
-        //2.加载方法
-        Method[] declaredMethods = eggg.getDeclaredMethods(typeEggg.getType());
-        Method[] methods = eggg.getMethods(typeEggg.getType());
+    private void ensureProperties() {
+        if (propertiesLoaded == false) {
+            loadSection(this::loadPropertiesSection);
+        }
+    }
 
-        ownMethodEgggs = new ArrayList<>(declaredMethods.length + methods.length);
-        ownMethodEgggsMap = new HashMap<>(declaredMethods.length + methods.length);
+    private void ensureConstrs() {
+        if (constrsLoaded == false) {
+            loadSection(this::loadConstrsSection);
+        }
+    }
 
-        if (methods.length == 0) {
-            publicMethodEgggs = Collections.emptyList();
-        } else {
-            publicMethodEgggs = new ArrayList<>(methods.length);
+    private void loadFieldsSection() {
+        if (fieldsLoaded || fieldsLoading) {
+            return;
         }
-        if (declaredMethods.length == 0) {
-            declaredMethodEgggs = Collections.emptyList();
-        } else {
-            declaredMethodEgggs = new ArrayList<>(declaredMethods.length);
+
+        fieldsLoading = true;
+        try {
+            //重新加载时，清掉上次失败留下的部分
+            allFieldEgggs.clear();
+            likeRecordClass = true;
+
+            loadFields();
+
+            this.likeRecordClass = likeRecordClass && allFieldEgggs.size() > 0;
+            Map<String, FieldEggg> forName = new LinkedHashMap<>(allFieldEgggs.size());
+            Map<String, FieldEggg> forAlias = new LinkedHashMap<>(allFieldEgggs.size());
+            for (FieldEggg fe : allFieldEgggs) {
+                forName.put(fe.getName(), fe);
+                forAlias.put(fe.getAlias(), fe);
+            }
+
+            allFieldEgggsForName = forName;
+            allFieldEgggsForAlias = forAlias;
+            fieldsLoaded = true;
+        } finally {
+            //失败时复位（下次访问重新加载）
+            fieldsLoading = false;
+        }
+    }
+
+    private void loadMethodsSection() {
+        if (methodsLoaded || methodsLoading) {
+            return;
         }
 
-        loadMethods(declaredMethods, methods);
+        methodsLoading = true;
+        try {
+            if (profile != IntrospectionProfile.FULL) {
+                //非全部时，不加载方法
+                ownMethodEgggs = Collections.emptyList();
+                publicMethodEgggs = Collections.emptyList();
+                declaredMethodEgggs = Collections.emptyList();
+
+                methodsLoaded = true;
+                return;
+            }
+
+            Method[] declaredMethods = eggg.getDeclaredMethods(typeEggg.getType());
+            Method[] methods = getMethods();
 
-        propertyEgggsForAlias = new LinkedHashMap<>(propertyEgggsForName.size());
-        for (Map.Entry<String, PropertyEggg> entry : propertyEgggsForName.entrySet()) {
-            propertyEgggsForAlias.put(entry.getValue().getAlias(), entry.getValue());
+            ownMethodEgggs = new ArrayList<>(declaredMethods.length + methods.length);
+
+            if (methods.length == 0) {
+                publicMethodEgggs = Collections.emptyList();
+            } else {
+                publicMethodEgggs = new ArrayList<>(methods.length);
+            }
+            if (declaredMethods.length == 0) {
+                declaredMethodEgggs = Collections.emptyList();
+            } else {
+                declaredMethodEgggs = new ArrayList<>(declaredMethods.length);
+            }
+
+            loadMethods(declaredMethods, methods);
+
+            methodsLoaded = true;
+        } finally {
+            //失败时复位（下次访问重新加载）
+            methodsLoading = false;
         }
+    }
 
-        //3.加构造器（顺序不能乱）
-        Constructor[] declaredConstructors = typeEggg.getType().getDeclaredConstructors();
-        constrEgggs = new ArrayList<>(declaredConstructors.length);
-        loadConstr(declaredConstructors);
+    private void loadPropertiesSection() {
+        if (propertiesLoaded || propertiesLoading) {
+            return;
+        }
 
+        //属性方法要关联字段
+        ensureFields();
 
-        this.digest = eggg.findDigest(this, this, null);
+        if (fieldsLoaded == false) {
+            //字段还在加载中（同线程重入），属性先不加载
+            return;
+        }
+
+        propertiesLoading = true;
+        try {
+            //重新加载时，清掉上次失败留下的部分
+            propertyEgggsForName.clear();
+
+            for (FieldEggg fe : allFieldEgggs) {
+                if (fe.isStatic() == false) {
+                    propertyEgggsForName.computeIfAbsent(fe.getName(), k -> new PropertyEggg(k))
+                            .setFieldEggg(fe);
+                }
+            }
+
+            if (profile != IntrospectionProfile.FIELDS_ONLY) {
+                loadProperties(getMethods());
+            }
+
+            Map<String, PropertyEggg> forAlias = new LinkedHashMap<>(propertyEgggsForName.size());
+            for (Map.Entry<String, PropertyEggg> entry : propertyEgggsForName.entrySet()) {
+                forAlias.put(entry.getValue().getAlias(), entry.getValue());
+            }
+
+            propertyEgggsForAlias = forAlias;
+
+            propertiesLoaded = true;
+        } finally {
+            //失败时复位（下次访问重新加载）
+            propertiesLoading = false;
+        }
+    }
+
+    private void loadConstrsSection() {
+        if (constrsLoaded || constrsLoading) {
+            return;
+        }
+
+        if (profile == IntrospectionProfile.FULL && typeEggg.getType().isEnum()) {
+            //枚举的创造器要从方法里找
+            ensureMethods();
+
+            if (methodsLoaded == false) {
+                //方法还在加载中（同线程重入），构造器先不加载
+                return;
+            }
+        }
+
+        constrsLoading = true;
+        try {
+            //重新加载时，清掉上次失败留下的部分
+            creator = null;
+
+            Constructor[] declaredConstructors = typeEggg.getType().getDeclaredConstructors();
+            constrEgggs = new ArrayList<>(declaredConstructors.length);
+
+            if (profile == IntrospectionProfile.FULL) {
+                loadConstr(declaredConstructors);
+            } else {
+                loadCreator(declaredConstructors);
+            }
+
+            constrsLoaded = true;
+        } finally {
+            //失败时复位（下次访问重新加载）
+            constrsLoading = false;
+        }
+    }
+
+    /**
+     * 在加载锁内加载一个部分（可重入；同线程重入时看到的是已加载的部分）
+     *
+     * <p>与锁的持有者相互等待时（比如：持有者正在等待当前线程的构建），由 EgggLoader 放弃当前线程持有的全部构建与加载锁，等对方加载完再重试。
+     * 其它线程只会看到加载完成的部分</p>
+     */
+    private void loadSection(Runnable loader) {
+        while (true) {
+            EgggLoader.Transaction tx = EgggLoader.enter();
+
+            try {
+                lockSection();
+
+                try {
+                    loader.run();
+                } finally {
+                    unlockSection();
+                }
+            } catch (EgggLoader.Abort ex) {
+                if (EgggLoader.exit(tx, false)) {
+                    ex.target.awaitQuietly();
+                    continue;
+                } else {
+                    throw ex;
+                }
+            } catch (RuntimeException | Error ex) {
+                EgggLoader.exit(tx, false);
+                throw ex;
+            }
+
+            EgggLoader.exit(tx, true);
+            return;
+        }
+    }
+
+    /**
+     * 获取加载锁（可重入；成环时抛出 EgggLoader.Abort）
+     */
+    private void lockSection() {
+        if (sectionLock.tryLock() == false) {
+            if (EgggLoader.beginWait(sectionWaitable) == false) {
+                throw new EgggLoader.Abort(sectionWaitable);
+            }
+
+            try {
+                sectionLock.lock();
+            } finally {
+                EgggLoader.endWait();
+            }
+        }
+
+        sectionOwner = Thread.currentThread();
+    }
+
+    private void unlockSection() {
+        if (sectionLock.getHoldCount() == 1) {
+            sectionOwner = null;
+        }
+
+        sectionLock.unlock();
+    }
+
+    /**
+     * 公有方法（方法与属性两部分共用，只取一次）
+     */
+    private synchronized Method[] getMethods() {
+        if (methods == null) {
+            methods = eggg.getMethods(typeEggg.getType());
+        }
+
+        return methods;
     }
 
     /**
@@ -115,6 +368,7 @@ public class ClassEggg implements AnnotatedEggg {
      * 疑似的记录类
      */
     public boolean isLikeRecordClass() {
+        ensureFields();
         return likeRecordClass;
     }
 
@@ -137,6 +391,8 @@ public class ClassEggg implements AnnotatedEggg {
 
     /**
      * 获取提炼物
+     *
+     * <p>提炼物在构建的最后才生成：构建期间提前发布的占位实例（处理器里获取自己或相互引用的类型时拿到的），此时为 null</p>
      */
     public <T extends Object> T getDigest() {
         return (T) digest;
@@ -156,9 +412,42 @@ public class ClassEggg implements AnnotatedEggg {
      * 获取创造器
      */
     public ConstrEggg getCreator() {
+        ensureConstrs();
         return creator;
     }
 
+    /**
+     * 是否可以不执行构造函数分配实例（需要 sun.misc.Unsafe；接口、抽象类、枚举、记录类等不支持）
+     */
+    public boolean isAllocatable() {
+        return realRecordClass == false && InstanceAllocator.isSupported(typeEggg.getType());
+    }
+
+    /**
+     * 分配实例（不执行任何构造函数，字段都是默认值，包括字段初始化也不执行；适合随后逐个设置字段的反序列化）
+     *
+     * <p>不可分配时退回创造器：按参数的默认值（null、0、false）创建</p>
+     */
+    public <T> T allocateInstance() throws InstantiationException, IllegalAccessException, InvocationTargetException {
+        if (isAllocatable()) {
+            try {
+                return (T) InstanceAllocator.allocate(typeEggg.getType());
+            } catch (InstantiationException | RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        ConstrEggg tmp = getCreator();
+
+        if (tmp == null) {
+            throw new InstantiationException(typeEggg.getType().getName());
+        }
+
+        return tmp.newInstance(tmp.newDefaultArgs());
+    }
+
     public ConstrEggg findConstrEggg(Class<?>... parameterTypes) throws NoSuchMethodException {
         ConstrEggg c1 = findConstrEgggOrNull(parameterTypes);
 
@@ -170,6 +459,8 @@ public class ClassEggg implements AnnotatedEggg {
     }
 
     public ConstrEggg findConstrEgggOrNull(Class<?>... parameterTypes) throws NoSuchMethodException {
+        ensureConstrs();
+
         for (ConstrEggg c1 : constrEgggs) {
             if (c1.getParamCount() == parameterTypes.length) {
                 if (parameterTypes.length == 0) {
@@ -186,10 +477,12 @@ public class ClassEggg implements AnnotatedEggg {
     }
 
     public Collection<MethodEggg> getPublicMethodEgggs() {
+        ensureMethods();
         return publicMethodEgggs;
     }
 
     public Collection<MethodEggg> getDeclaredMethodEgggs() {
+        ensureMethods();
         return declaredMethodEgggs;
     }
 
@@ -204,6 +497,8 @@ public class ClassEggg implements AnnotatedEggg {
     }
 
     public MethodEggg findMethodEgggOrNull(String name, Class<?>... parameterTypes) {
+        ensureMethods();
+
         for (MethodEggg m1 : declaredMethodEgggs) {
             if (m1.getParamCount() == parameterTypes.length && m1.getName().equals(name)) {
                 if (parameterTypes.length == 0) {
@@ -233,34 +528,52 @@ public class ClassEggg implements AnnotatedEggg {
 
 
     public MethodEggg findMethodEgggOrNew(Method method) {
-        return ownMethodEgggsMap.computeIfAbsent(method, k -> eggg.newMethodEggg(this, k));
+        MethodEggg me = ownMethodEgggsMap.get(method);
+
+        if (me == null) {
+            //不用 computeIfAbsent（构建时可能重入）
+            me = eggg.newMethodEggg(this, method);
+            MethodEggg tmp = ownMethodEgggsMap.putIfAbsent(method, me);
+            if (tmp != null) {
+                me = tmp;
+            }
+        }
+
+        return me;
     }
 
     public Collection<MethodEggg> getOwnMethodEgggs() {
+        ensureMethods();
         return ownMethodEgggs;
     }
 
     public Collection<FieldEggg> getAllFieldEgggs() {
+        ensureFields();
         return allFieldEgggs;
     }
 
     public FieldEggg getFieldEgggByName(String name) {
+        ensureFields();
         return allFieldEgggsForName.get(name);
     }
 
     public FieldEggg getFieldEgggByAlias(String alias) {
+        ensureFields();
         return allFieldEgggsForAlias.get(alias);
     }
 
     public Collection<PropertyEggg> getPropertyEgggs() {
+        ensureProperties();
         return propertyEgggsForName.values();
     }
 
     public PropertyEggg getPropertyEgggByName(String name) {
+        ensureProperties();
         return propertyEgggsForName.get(name);
     }
 
     public PropertyEggg getPropertyEgggByAlias(String alias) {
+        ensureProperties();
         return propertyEgggsForAlias.get(alias);
     }
 
@@ -274,7 +587,7 @@ public class ClassEggg implements AnnotatedEggg {
 
         //先从静态方法找
         if (typeEggg.getType().isEnum()) {
-            for (MethodEggg me : declaredMethodEgggs) {
+            for (MethodEggg me : getDeclaredMethodEgggs()) {
                 if (me.isStatic()) {
                     boolean isCreator = eggg.findCreator(me.getMethod());
                     if (isCreator) {
@@ -300,6 +613,43 @@ public class ClassEggg implements AnnotatedEggg {
         }
     }
 
+    /**
+     * 只加载创造器（选择规则与 loadConstr 相同，但只构建选中的那个）
+     */
+    protected void loadCreator(Constructor[] declaredConstructors) {
+        //先从静态方法找
+        if (typeEggg.getType().isEnum()) {
+            for (Method m1 : eggg.getDeclaredMethods(typeEggg.getType())) {
+                if (Modifier.isStatic(m1.getModifiers()) && m1.isBridge() == false) {
+                    if (eggg.findCreator(m1)) {
+                        creator = eggg.newConstrEggg(this, m1, true);
+                        return;
+                    }
+                }
+            }
+        }
+
+        //再从构造方法找
+        Constructor selected = null;
+        boolean isCreator = false;
+
+        for (Constructor c1 : declaredConstructors) {
+            if (eggg.findCreator(c1)) {
+                selected = c1;
+                isCreator = true;
+                break;
+            } else if (selected == null || selected.getParameterCount() > c1.getParameterCount()) {
+                //谁参数少，用谁
+                selected = c1;
+            }
+        }
+
+        if (selected != null) {
+            creator = eggg.newConstrEggg(this, selected, isCreator);
+            constrEgggs.add(creator);
+        }
+    }
+
     protected void loadFields() {
         Class<?> clz = typeEggg.getType();
 
@@ -312,8 +662,6 @@ public class ClassEggg implements AnnotatedEggg {
                 if (fe.isStatic() == false) {
                     //如果全是只读，则
                     likeRecordClass = likeRecordClass && fe.isFinal();
-                    propertyEgggsForName.computeIfAbsent(fe.getName(), k -> new PropertyEggg(k))
-                            .setFieldEggg(fe);
                 }
             }
 
@@ -328,44 +676,48 @@ public class ClassEggg implements AnnotatedEggg {
             }
 
             if (m1.isBridge() == false) {
-                MethodEggg me = eggg.newMethodEggg(this, m1);
+                //与公有处共用同一个 MethodEggg
+                MethodEggg me = findMethodEgggOrNew(m1);
 
                 declaredMethodEgggs.add(me);
 
                 if (me.isPublic() == false) {
                     //发果是公有，由公有处添加
                     ownMethodEgggs.add(me);
-                    ownMethodEgggsMap.put(m1, me);
                 }
             }
         }
 
         for (Method m1 : methods) {
-            if (m1.getDeclaringClass() == Object.class) {
-                continue;
-            }
-
-            if (m1.isBridge()) {
-                m1 = findActualMethod(typeEggg.getType().getSuperclass(), m1);
-            }
+            m1 = resolvePublicMethod(m1);
 
             if (m1 == null) {
                 continue;
             }
 
-            MethodEggg me = eggg.newMethodEggg(this, m1);
+            MethodEggg me = findMethodEgggOrNew(m1);
             publicMethodEgggs.add(me);
             ownMethodEgggs.add(me);
-            ownMethodEgggsMap.put(m1, me);
+        }
+    }
+
+    protected void loadProperties(Method[] methods) {
+        for (Method m1 : methods) {
+            m1 = resolvePublicMethod(m1);
+
+            if (m1 == null) {
+                continue;
+            }
 
-            if (me.isStatic() == false && me.isPublic()) {
-                //非静态、公有的才可能是属性方法
+            int mod = m1.getModifiers();
+            if (Modifier.isStatic(mod) == false && Modifier.isPublic(mod)) {
+                //非静态、公有的才可能是属性方法（只为属性方法构建 MethodEggg）
                 String m1N = m1.getName();
                 if (m1N.length() > 2) {
                     if (m1.getReturnType() == void.class && m1.getParameterCount() == 1) {
                         //setter
                         if (m1N.length() > 3 && m1N.startsWith("set")) {
-                            PropertyMethodEggg sw = eggg.newPropertyMethodEggg(this, me);
+                            PropertyMethodEggg sw = eggg.newPropertyMethodEggg(this, findMethodEgggOrNew(m1));
 
                             propertyEgggsForName.computeIfAbsent(sw.getName(), k -> new PropertyEggg(k))
                                     .setSetterEggg(sw);
@@ -374,7 +726,7 @@ public class ClassEggg implements AnnotatedEggg {
                         //getter
                         if ((m1N.length() > 3 && m1N.startsWith("get")) ||
                                 (m1N.length() > 2 && m1N.startsWith("is"))) {
-                            PropertyMethodEggg gw = eggg.newPropertyMethodEggg(this, me);
+                            PropertyMethodEggg gw = eggg.newPropertyMethodEggg(this, findMethodEgggOrNew(m1));
 
                             propertyEgggsForName.computeIfAbsent(gw.getName(), k -> new PropertyEggg(k))
                                     .setGetterEggg(gw);
@@ -385,6 +737,21 @@ public class ClassEggg implements AnnotatedEggg {
         }
     }
 
+    /**
+     * 排除 Object 的方法，并把桥接方法换成实际方法（找不到时返回 null）
+     */
+    private Method resolvePublicMethod(Method m1) {
+        if (m1.getDeclaringClass() == Object.class) {
+            return null;
+        }
+
+        if (m1.isBridge()) {
+            return findActualMethod(typeEggg.getType().getSuperclass(), m1);
+        }
+
+        return m1;
+    }
+
     private Method findActualMethod(Class<?> clz, Method m1) {
         try {
             m1 = clz.getMethod(m1.getName(), m1.getParameterTypes());
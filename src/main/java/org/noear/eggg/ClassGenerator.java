@@ -0,0 +1,434 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 类生成器（生成的类定义在宿主类旁边，可访问宿主的私有成员）
+ *
+ * <p>只在 Java 15+ 生成：定义为宿主的隐藏类（nestmate）。更低的版本不生成（isSupported 为 false），由调用方退回反射或句柄。生成的类文件为 Java 8 版本（52）</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+final class ClassGenerator {
+    static final String OBJECT_NAME = "java/lang/Object";
+
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    //Java 9+
+    private static Method privateLookupIn;
+    private static Method getModule;
+    private static Method isExported;
+    //Java 15+
+    private static Method defineHiddenClass;
+    private static Object hiddenClassOptions;
+
+    static {
+        try {
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            getModule = Class.class.getMethod("getModule");
+            isExported = getModule.getReturnType().getMethod("isExported", String.class);
+        } catch (Throwable ignore) {
+            //Java 8
+        }
+
+        try {
+            Class<?> optionClass = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            Object options = Array.newInstance(optionClass, 1);
+            Array.set(options, 0, optionClass.getField("NESTMATE").get(null));
+
+            defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, options.getClass());
+            hiddenClassOptions = options;
+        } catch (Throwable ignore) {
+            //Java 15 以下
+        }
+    }
+
+    private ClassGenerator() {
+    }
+
+    /**
+     * 是否可在宿主旁边定义类
+     *
+     * @param host       宿主
+     * @param interfaces 生成的类要实现的接口（要能从宿主的类加载器看到，且是同一个）
+     */
+    static boolean isSupported(Class<?> host, Class<?>... interfaces) {
+        if (defineHiddenClass == null) {
+            return false;
+        }
+
+        if (host.isInterface() || host.isArray() || host.isPrimitive()) {
+            return false;
+        }
+
+        try {
+            for (Class<?> type : interfaces) {
+                if (Class.forName(type.getName(), false, host.getClassLoader()) != type) {
+                    return false;
+                }
+            }
+        } catch (Throwable e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 生成的类名（宿主类名 + 后缀 + 序号）
+     */
+    static String newClassName(Class<?> host, String suffix) {
+        return internalName(host) + suffix + counter.incrementAndGet();
+    }
+
+    /**
+     * 在宿主旁边定义类
+     */
+    static Class<?> define(Class<?> host, byte[] bytes) throws Throwable {
+        MethodHandles.Lookup lookup = (MethodHandles.Lookup) privateLookupIn.invoke(null, host, MethodHandles.lookup());
+        return ((MethodHandles.Lookup) defineHiddenClass.invoke(lookup, bytes, true, hiddenClassOptions)).lookupClass();
+    }
+
+    /**
+     * 类型是否可被宿主访问（生成的类要 checkcast 到它）
+     */
+    static boolean isAccessible(Class<?> type, Class<?> host) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+
+        if (type.isPrimitive()) {
+            return true;
+        }
+
+        if (type.getClassLoader() == host.getClassLoader() && getPackageName(type).equals(getPackageName(host))) {
+            return true;
+        }
+
+        if (Modifier.isPublic(type.getModifiers()) == false) {
+            return false;
+        }
+
+        if (isExported == null) {
+            return true;
+        }
+
+        try {
+            return (Boolean) isExported.invoke(getModule.invoke(type), getPackageName(type));
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    static String getPackageName(Class<?> type) {
+        String name = type.getName();
+        int idx = name.lastIndexOf('.');
+        return idx < 0 ? "" : name.substring(0, idx);
+    }
+
+    /// /////////////////
+    // 类文件
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    /**
+     * 类文件（一个接口；可选一个私有的 final 字段）
+     *
+     * @param fieldName 字段名（没有时为 null）
+     */
+    static byte[] toBytes(ConstantPool cp, String className, String interfaceName, String fieldName, String fieldDesc, List<Code> methods) throws IOException {
+        int thisClass = cp.clazz(className);
+        int superClass = cp.clazz(OBJECT_NAME);
+        int interfaceClass = cp.clazz(interfaceName);
+        int handlerType = cp.clazz("java/lang/RuntimeException");
+        int codeName = cp.utf8("Code");
+        int stackMapName = cp.utf8("StackMapTable");
+
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buf);
+
+        //先把常量池补全，再写出
+        int fieldNameIdx = (fieldName == null ? 0 : cp.utf8(fieldName));
+        int fieldDescIdx = (fieldName == null ? 0 : cp.utf8(fieldDesc));
+
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(52); //Java 8
+        out.writeShort(cp.count);
+        out.write(cp.toByteArray());
+
+        out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(interfaceClass);
+
+        //fields
+        if (fieldName == null) {
+            out.writeShort(0);
+        } else {
+            out.writeShort(1);
+            out.writeShort(ACC_PRIVATE | ACC_FINAL);
+            out.writeShort(fieldNameIdx);
+            out.writeShort(fieldDescIdx);
+            out.writeShort(0);
+        }
+
+        //methods
+        out.writeShort(methods.size());
+        for (Code code : methods) {
+            writeMethod(out, code, codeName, stackMapName, handlerType);
+        }
+
+        //attributes
+        out.writeShort(0);
+        out.flush();
+
+        return buf.toByteArray();
+    }
+
+    static void writeMethod(DataOutputStream out, Code code, int codeName, int stackMapName, int handlerType) throws IOException {
+        byte[] bytes = code.toByteArray();
+        boolean hasHandler = code.handlerPc > 0;
+
+        //StackMapTable：处理器入口（局部变量同方法入口，栈上一个 RuntimeException）
+        byte[] stackMap = null;
+        if (hasHandler) {
+            ByteArrayOutputStream tmp = new ByteArrayOutputStream();
+            DataOutputStream frame = new DataOutputStream(tmp);
+            frame.writeShort(1);
+            if (code.handlerPc <= 63) {
+                frame.writeByte(64 + code.handlerPc); //same_locals_1_stack_item_frame
+            } else {
+                frame.writeByte(247); //same_locals_1_stack_item_frame_extended
+                frame.writeShort(code.handlerPc);
+            }
+            frame.writeByte(7); //Object_variable_info
+            frame.writeShort(handlerType);
+            frame.flush();
+            stackMap = tmp.toByteArray();
+        }
+
+        int codeLength = 2 + 2 + 4 + bytes.length + 2 + (hasHandler ? 8 : 0) + 2 + (hasHandler ? 6 + stackMap.length : 0);
+
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(code.name);
+        out.writeShort(code.desc);
+        out.writeShort(1);
+
+        out.writeShort(codeName);
+        out.writeInt(codeLength);
+        out.writeShort(code.maxStack);
+        out.writeShort(code.maxLocals);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+
+        if (hasHandler) {
+            out.writeShort(1);
+            out.writeShort(0);
+            out.writeShort(code.handlerPc);
+            out.writeShort(code.handlerPc);
+            out.writeShort(handlerType);
+
+            out.writeShort(1);
+            out.writeShort(stackMapName);
+            out.writeInt(stackMap.length);
+            out.write(stackMap);
+        } else {
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+
+    static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    static String descOf(Class<?> type) {
+        if (type.isPrimitive()) {
+            if (type == int.class) {
+                return "I";
+            } else if (type == long.class) {
+                return "J";
+            } else if (type == boolean.class) {
+                return "Z";
+            } else if (type == double.class) {
+                return "D";
+            } else if (type == float.class) {
+                return "F";
+            } else if (type == byte.class) {
+                return "B";
+            } else if (type == short.class) {
+                return "S";
+            } else if (type == char.class) {
+                return "C";
+            } else {
+                return "V";
+            }
+        } else if (type.isArray()) {
+            return internalName(type);
+        } else {
+            return "L" + internalName(type) + ";";
+        }
+    }
+
+    static Class<?> boxOf(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else {
+            return Character.class;
+        }
+    }
+
+    /**
+     * 常量池
+     */
+    static class ConstantPool {
+        private final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(buf);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        int count = 1;
+
+        int utf8(String value) throws IOException {
+            Integer idx = indexes.get("U" + value);
+            if (idx == null) {
+                out.writeByte(1);
+                out.writeUTF(value);
+                idx = add("U" + value);
+            }
+            return idx;
+        }
+
+        int clazz(String name) throws IOException {
+            return ref("C", 7, utf8(name), -1, name);
+        }
+
+        int nameAndType(String name, String desc) throws IOException {
+            return ref("N", 12, utf8(name), utf8(desc), name + " " + desc);
+        }
+
+        int fieldref(String owner, String name, String desc) throws IOException {
+            return ref("F", 9, clazz(owner), nameAndType(name, desc), owner + "." + name + " " + desc);
+        }
+
+        int methodref(String owner, String name, String desc) throws IOException {
+            return ref("M", 10, clazz(owner), nameAndType(name, desc), owner + "." + name + desc);
+        }
+
+        int interfaceMethodref(String owner, String name, String desc) throws IOException {
+            return ref("I", 11, clazz(owner), nameAndType(name, desc), owner + "." + name + desc);
+        }
+
+        private int ref(String kind, int tag, int idx1, int idx2, String key) throws IOException {
+            Integer idx = indexes.get(kind + key);
+            if (idx == null) {
+                out.writeByte(tag);
+                out.writeShort(idx1);
+                if (idx2 >= 0) {
+                    out.writeShort(idx2);
+                }
+                idx = add(kind + key);
+            }
+            return idx;
+        }
+
+        private int add(String key) {
+            int idx = count++;
+            indexes.put(key, idx);
+            return idx;
+        }
+
+        byte[] toByteArray() throws IOException {
+            out.flush();
+            return buf.toByteArray();
+        }
+    }
+
+    /**
+     * 方法代码
+     */
+    static class Code {
+        private final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        private final int name;
+        private final int desc;
+        private final int maxLocals;
+        private int maxStack = 4;
+        private int handlerPc;
+
+        Code(ConstantPool cp, String name, String desc, int maxLocals) throws IOException {
+            this.name = cp.utf8(name);
+            this.desc = cp.utf8(desc);
+            this.maxLocals = maxLocals;
+        }
+
+        Code maxStack(int value) {
+            maxStack = value;
+            return this;
+        }
+
+        Code op(int value) {
+            buf.write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            buf.write(value >>> 8);
+            buf.write(value);
+            return this;
+        }
+
+        /**
+         * 标记异常处理器（之前的代码都在保护范围内）
+         */
+        void handler() {
+            handlerPc = buf.size();
+            op(0x57); //pop
+        }
+
+        byte[] toByteArray() {
+            return buf.toByteArray();
+        }
+    }
+}
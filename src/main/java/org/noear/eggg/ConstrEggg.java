@@ -35,9 +35,17 @@ public class ConstrEggg implements AnnotatedEggg {
 
     private final Map<String, ParamEggg> paramAliasMap;
     private final List<ParamEggg> paramAry;
+    private final Class<?>[] paramTypes;
 
     private final boolean security;
 
+    //参数的默认值模板（首次使用时生成，每次复制）
+    private volatile Object[] defaultArgs;
+
+    //实例化器（首次调用时生成；不可用时为 null，走反射）
+    private volatile Instantiator instantiator;
+    private volatile boolean instantiatorResolved;
+
     public ConstrEggg(Eggg eggg, ClassEggg ownerEggg, Executable constr, boolean isCreator) {
         Objects.requireNonNull(eggg, "eggg");
         Objects.requireNonNull(ownerEggg, "ownerEggg");
@@ -62,11 +70,30 @@ public class ConstrEggg implements AnnotatedEggg {
             }
         }
 
+        paramTypes = constr.getParameterTypes();
         security = (constr.getParameterCount() == 0 || isCreator || ownerEggg.isRealRecordClass());
 
         digest = eggg.findDigest(ownerEggg, this, null);
     }
 
+    /**
+     * 新建参数的默认值数组（null、0、false）
+     */
+    Object[] newDefaultArgs() {
+        Object[] tmp = defaultArgs;
+
+        if (tmp == null) {
+            tmp = new Object[paramTypes.length];
+            for (int i = 0; i < paramTypes.length; i++) {
+                tmp[i] = PrimitiveWidening.defaultOf(paramTypes[i]);
+            }
+
+            defaultArgs = tmp;
+        }
+
+        return (tmp.length == 0 ? tmp : tmp.clone());
+    }
+
     public ClassEggg getOwnerEggg() {
         return ownerEggg;
     }
@@ -126,7 +153,55 @@ public class ConstrEggg implements AnnotatedEggg {
         return paramAliasMap.containsKey(alias);
     }
 
-    public <T> T newInstance(Object... args)
+    /**
+     * 获取实例化器（首次调用时生成；不可用时为 null）
+     */
+    Instantiator getInstantiator() {
+        if (instantiatorResolved == false) {
+            try {
+                if (InstantiatorGenerator.isSupported(constr)) {
+                    instantiator = InstantiatorGenerator.generate(constr);
+                }
+            } catch (Throwable e) {
+                instantiator = null;
+            }
+
+            instantiatorResolved = true;
+        }
+
+        return instantiator;
+    }
+
+    /**
+     * 参数是否与形参类型一致（实例化器只处理一致的参数；需要宽化转换、或参数不匹配时交给反射，不会重复执行构造）
+     */
+    private boolean isExactArg(int idx, Object arg) {
+        Class<?> type = paramTypes[idx];
+
+        if (type.isPrimitive()) {
+            return arg != null && arg.getClass() == ClassGenerator.boxOf(type);
+        } else {
+            return arg == null || type.isInstance(arg);
+        }
+    }
+
+    private boolean isExactArgs(Object[] args) {
+        int count = (args == null ? 0 : args.length);
+
+        if (count != paramTypes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (isExactArg(i, args[i]) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private <T> T newInstanceReflect(Object[] args)
             throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
         if (constr.isAccessible() == false) {
             constr.setAccessible(true);
@@ -135,8 +210,136 @@ public class ConstrEggg implements AnnotatedEggg {
         if (constr instanceof Constructor) {
             return (T) ((Constructor) constr).newInstance(args);
         } else {
-            return (T) ((Method) constr).invoke(args);
+            return (T) ((Method) constr).invoke(null, args);
+        }
+    }
+
+    public <T> T newInstance(Object... args)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && isExactArgs(args)) {
+            try {
+                return (T) tmp.newInstance(args);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
         }
+
+        return newInstanceReflect(args);
+    }
+
+    /**
+     * 实例化（无参数；不分配参数数组）
+     */
+    public <T> T newInstance0()
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && paramTypes.length == 0) {
+            try {
+                return (T) tmp.newInstance0();
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        return newInstanceReflect(new Object[0]);
+    }
+
+    /**
+     * 实例化（1 个参数；不分配参数数组）
+     */
+    public <T> T newInstance1(Object a)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && paramTypes.length == 1
+                && isExactArg(0, a)) {
+            try {
+                return (T) tmp.newInstance1(a);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        return newInstanceReflect(new Object[]{a});
+    }
+
+    /**
+     * 实例化（2 个参数；不分配参数数组）
+     */
+    public <T> T newInstance2(Object a, Object b)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && paramTypes.length == 2
+                && isExactArg(0, a) && isExactArg(1, b)) {
+            try {
+                return (T) tmp.newInstance2(a, b);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        return newInstanceReflect(new Object[]{a, b});
+    }
+
+    /**
+     * 实例化（3 个参数；不分配参数数组）
+     */
+    public <T> T newInstance3(Object a, Object b, Object c)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && paramTypes.length == 3
+                && isExactArg(0, a) && isExactArg(1, b) && isExactArg(2, c)) {
+            try {
+                return (T) tmp.newInstance3(a, b, c);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        return newInstanceReflect(new Object[]{a, b, c});
+    }
+
+    /**
+     * 实例化（4 个参数；不分配参数数组）
+     */
+    public <T> T newInstance4(Object a, Object b, Object c, Object d)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && paramTypes.length == 4
+                && isExactArg(0, a) && isExactArg(1, b) && isExactArg(2, c) && isExactArg(3, d)) {
+            try {
+                return (T) tmp.newInstance4(a, b, c, d);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        return newInstanceReflect(new Object[]{a, b, c, d});
+    }
+
+    /**
+     * 实例化（5 个参数；不分配参数数组）
+     */
+    public <T> T newInstance5(Object a, Object b, Object c, Object d, Object e)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        Instantiator tmp = getInstantiator();
+
+        if (tmp != null && paramTypes.length == 5
+                && isExactArg(0, a) && isExactArg(1, b) && isExactArg(2, c) && isExactArg(3, d) && isExactArg(4, e)) {
+            try {
+                return (T) tmp.newInstance5(a, b, c, d, e);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+
+        return newInstanceReflect(new Object[]{a, b, c, d, e});
     }
 
     @Override
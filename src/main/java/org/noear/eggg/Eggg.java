@@ -16,10 +16,15 @@
 package org.noear.eggg;
 
 import java.lang.annotation.Annotation;
-import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * 泛型蛋（泛型包装工具）
@@ -67,8 +72,30 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 1.0
  */
 public class Eggg {
-    private final Map<Type, SoftReference<TypeEggg>> typeEgggCached = new ConcurrentHashMap<>();
-    private final Map<TypeEggg, SoftReference<ClassEggg>> classEgggCached = new ConcurrentHashMap<>();
+    //默认缓存的最大条目数（每个分区一个有界缓存）
+    private static final int DEFAULT_CACHE_MAX_ENTRIES = 4096;
+
+    private Supplier<EgggCache<Type, TypeEggg>> typeEgggCacheFactory = () -> EgggCache.bounded(DEFAULT_CACHE_MAX_ENTRIES);
+    private Supplier<EgggCache<TypeEggg, ClassEggg>> classEgggCacheFactory = () -> EgggCache.bounded(DEFAULT_CACHE_MAX_ENTRIES);
+
+    private final EgggStatsCounter typeEgggStats = new EgggStatsCounter();
+    private final EgggStatsCounter classEgggStats = new EgggStatsCounter();
+    //ClassValue 槽位是否刚在当前线程计算（统计启用时才用，区分命中与未命中）
+    private final ThreadLocal<boolean[]> classTypeEgggComputed = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    //单飞加载（构建在缓存的桶锁之外进行）
+    private final EgggLoader<Type, TypeEggg> typeEgggLoader = new EgggLoader<>();
+    private final EgggLoader<TypeEggg, ClassEggg> classEgggLoader = new EgggLoader<>();
+
+    //共享分区（启动类加载器及 Eggg 所在类加载器链上的类型，它们不会先于 Eggg 卸载）
+    private volatile EgggPartition sharedPartition = newPartition();
+    //其它类加载器的分区（弱键、弱值；分区由该类加载器下的类通过 ClassValue 强引用）
+    private final Map<ClassLoader, WeakReference<EgggPartition>> partitions = new WeakHashMap<>();
+    //涉及互不相关的类加载器（比如两个兄弟模块）的类型（放在哪个分区都会钉住另一个类加载器；弱键、弱值，不钉住类加载器）
+    private final EgggPartition unrelatedPartition = newUnrelatedPartition();
+    private volatile ClassValue<EgggPartition> classPartitionCached = newClassPartitionCached();
+    private volatile ClassValue<TypeEggg> classTypeEgggCached = newClassTypeEgggCached();
+
     private GenericResolver genericResolver = GenericResolver.getDefault();
 
     private AliasHandler aliasHandler;
@@ -76,6 +103,10 @@ public class Eggg {
     private ReflectHandler reflectHandler = ReflectHandlerDefault.getInstance();
     private CreatorMatcher creatorMatcher;
 
+    private boolean lazy;
+    private IntrospectionProfile profile = IntrospectionProfile.FULL;
+    private FieldAccessorFactory fieldAccessorFactory = FieldAccessorFactory.generate();
+
     public Eggg withCreatorClass(Class<? extends Annotation> creatorClass) {
         Objects.requireNonNull(creatorClass, "creatorClass");
 
@@ -118,11 +149,164 @@ public class Eggg {
         return this;
     }
 
+    /**
+     * 配置缓存（可按部署选择强引用、软引用或有界缓存；默认为有界缓存，每个分区 4096 条）
+     *
+     * <pre>{@code
+     * new Eggg().withCache(EgggCache::strong, () -> EgggCache.bounded(500));
+     * }</pre>
+     *
+     * <p>注意：原始类（Class）的 TypeEggg 不经过这里配置的缓存，由 ClassValue 按类存放（生命周期随类，不按条目数淘汰；
+     * 可通过 evict(ClassLoader) 驱逐）。所有类型的 ClassEggg 都存放在这里配置的缓存里</p>
+     *
+     * @param typeEgggCacheFactory  类型包装器缓存工厂（每个类加载器分区一个；原始类不经过它，由 ClassValue 按类存放）
+     * @param classEgggCacheFactory 类包装器缓存工厂（每个类加载器分区一个）
+     */
+    public Eggg withCache(Supplier<EgggCache<Type, TypeEggg>> typeEgggCacheFactory, Supplier<EgggCache<TypeEggg, ClassEggg>> classEgggCacheFactory) {
+        Objects.requireNonNull(typeEgggCacheFactory, "typeEgggCacheFactory");
+        Objects.requireNonNull(classEgggCacheFactory, "classEgggCacheFactory");
+
+        this.typeEgggCacheFactory = typeEgggCacheFactory;
+        this.classEgggCacheFactory = classEgggCacheFactory;
+
+        //重建分区
+        synchronized (partitions) {
+            partitions.clear();
+            sharedPartition = newPartition();
+            classPartitionCached = newClassPartitionCached();
+            classTypeEgggCached = newClassTypeEgggCached();
+        }
+        return this;
+    }
+
+    /**
+     * 配置是否统计缓存（命中、未命中、淘汰、构建次数与耗时；默认不统计）
+     */
+    public Eggg withStats(boolean enabled) {
+        typeEgggStats.setEnabled(enabled);
+        classEgggStats.setEnabled(enabled);
+        return this;
+    }
+
+    /**
+     * 配置是否延迟加载（字段、方法、属性、构造器等部分在首次访问时才加载；默认不延迟）
+     *
+     * <p>只用到属性时，可省去非属性方法与构造器的构建</p>
+     */
+    public Eggg withLazy(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    /**
+     * 是否延迟加载
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * 配置分析范围（默认为 FULL）
+     *
+     * <pre>{@code
+     * new Eggg().withProfile(IntrospectionProfile.FIELDS_ONLY);
+     * }</pre>
+     */
+    public Eggg withProfile(IntrospectionProfile profile) {
+        Objects.requireNonNull(profile, "profile");
+
+        this.profile = profile;
+        return this;
+    }
+
+    /**
+     * 获取分析范围
+     */
+    public IntrospectionProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * 配置字段访问器工厂（默认为生成访问，不允许时退回方法句柄访问，再退回反射）
+     */
+    public Eggg withFieldAccessorFactory(FieldAccessorFactory fieldAccessorFactory) {
+        Objects.requireNonNull(fieldAccessorFactory, "fieldAccessorFactory");
+
+        this.fieldAccessorFactory = fieldAccessorFactory;
+        return this;
+    }
+
     ///
 
+    /**
+     * 清空所有缓存
+     */
     public void clear() {
-        typeEgggCached.clear();
-        classEgggCached.clear();
+        classTypeEgggCached = newClassTypeEgggCached();
+
+        clearPartition(sharedPartition);
+
+        for (EgggPartition partition : getPartitions()) {
+            clearPartition(partition);
+        }
+
+        clearPartition(unrelatedPartition);
+    }
+
+    /**
+     * 驱逐某个类加载器的缓存分区（不影响其它类加载器的缓存；热部署卸载模块时使用）
+     *
+     * <p>注意：启动类加载器及 Eggg 所在类加载器链上的类型共用一个分区</p>
+     */
+    public void evict(ClassLoader classLoader) {
+        EgggPartition partition;
+
+        if (isSharedLoader(classLoader)) {
+            partition = sharedPartition;
+        } else {
+            synchronized (partitions) {
+                WeakReference<EgggPartition> ref = partitions.get(classLoader);
+                partition = (ref == null ? null : ref.get());
+            }
+        }
+
+        if (partition != null) {
+            clearPartition(partition);
+        }
+
+        //互不相关的类型可能涉及这个类加载器
+        clearPartition(unrelatedPartition);
+    }
+
+    /**
+     * 获取统计快照（分别统计 TypeEggg 与 ClassEggg；需先 withStats(true)，条目数总是有效）
+     */
+    public EgggStats stats() {
+        long[] entries = countEntries();
+        return new EgggStats(typeEgggStats.snapshot(entries[0]), classEgggStats.snapshot(entries[1]));
+    }
+
+    /**
+     * 重置统计（并返回重置前的快照，便于按周期采集增量）
+     */
+    public EgggStats resetStats() {
+        long[] entries = countEntries();
+        return new EgggStats(typeEgggStats.snapshotThenReset(entries[0]), classEgggStats.snapshotThenReset(entries[1]));
+    }
+
+    private long[] countEntries() {
+        long[] entries = new long[2];
+
+        List<EgggPartition> list = getPartitions();
+        list.add(sharedPartition);
+        list.add(unrelatedPartition);
+
+        for (EgggPartition partition : list) {
+            entries[0] += partition.typeEgggCached.size() + partition.rawClasses.size();
+            entries[1] += partition.classEgggCached.size();
+        }
+
+        return entries;
     }
 
     ///
@@ -130,40 +314,147 @@ public class Eggg {
     public TypeEggg getTypeEggg(Type type) {
         Objects.requireNonNull(type, "type");
 
+        return getTypeEggg(type, true);
+    }
+
+    /**
+     * 获取类型包装器
+     *
+     * @param record 是否计入命中或未命中（每次公开的获取只计一次；匿名类转查父类型时不再计入）
+     */
+    private TypeEggg getTypeEggg(Type type, boolean record) {
         if (type instanceof Class<?>) {
-            if (type instanceof Class) {
-                Class<?> clazz = (Class<?>) type;
-                if (clazz.isAnonymousClass()) {
-                    type = clazz.getGenericSuperclass();
-                }
+            //原始类走 ClassValue 槽位（无哈希、无分配，生命周期随类）
+            if (record && typeEgggStats.isEnabled()) {
+                return getClassTypeEgggRecorded((Class<?>) type);
+            } else {
+                return classTypeEgggCached.get((Class<?>) type);
             }
         }
 
-        return typeEgggCached.compute(type, (t, softRef) -> {
-            if (softRef != null && softRef.get() != null) {
-                return softRef;
+        EgggCache<Type, TypeEggg> cached = getPartition(type).typeEgggCached;
+        TypeEggg typeEggg = cached.get(type);
+
+        if (typeEggg != null) {
+            if (record) {
+                typeEgggStats.recordHit();
             }
+            return typeEggg;
+        }
+
+        //未命中时，按规范实例存放（等价的类型不管是谁实现的，都共用一个 TypeEggg）
+        return getOrBuild(cached, typeEgggLoader, genericResolver.intern(type), this::newTypeEggg, typeEgggStats, record);
+    }
+
+    /**
+     * 获取原始类的类型包装器，并计入命中或未命中（统计启用时）
+     */
+    private TypeEggg getClassTypeEgggRecorded(Class<?> clazz) {
+        boolean[] computed = classTypeEgggComputed.get();
+        computed[0] = false;
+
+        TypeEggg tmp = classTypeEgggCached.get(clazz);
+
+        if (computed[0]) {
+            computed[0] = false;
+            typeEgggStats.recordMiss();
+        } else {
+            typeEgggStats.recordHit();
+        }
 
-            return new SoftReference<>(newTypeEggg(t));
-        }).get();
+        return tmp;
     }
 
+    /**
+     * 获取类包装器
+     *
+     * <p>构建期间（如处理器里）递归获取同一个类型时，返回构建中的占位实例（只对构建它的线程可见，它在构建完成后才完整）</p>
+     */
     public ClassEggg getClassEggg(TypeEggg typeEggg) {
         Objects.requireNonNull(typeEggg, "typeEggg");
 
-        return classEgggCached.compute(typeEggg, (t, softRef) -> {
-            if (softRef != null && softRef.get() != null) {
-                return softRef;
-            }
-
-            return new SoftReference<>(newClassEggg(t));
-        }).get();
+        return getOrBuild(getPartition(typeEggg.getGenericType()).classEgggCached, classEgggLoader, typeEggg, this::newClassEggg, classEgggStats, true);
     }
 
     public ClassEggg getClassEggg(Type type) {
         return getTypeEggg(type).getClassEggg();
     }
 
+    /**
+     * 提前发布构建中的类包装器（递归引用自己的类型图，构建期间可以拿到它）
+     */
+    void publishEarly(ClassEggg classEggg) {
+        classEgggLoader.publish(classEggg.getTypeEggg(), classEggg);
+    }
+
+    /**
+     * 预加载（在 ForkJoinPool.commonPool 上并行构建类型图）
+     *
+     * @param types 类型集合
+     */
+    public CompletableFuture<Void> preload(Collection<? extends Type> types) {
+        return preload(types, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 预加载（并行构建类型图，会深入字段、属性、创造器参数的类型，共享依赖只构建一次；用于启动时预热）
+     *
+     * <pre>{@code
+     * eggg.preload(Arrays.asList(UserModel.class, OrderModel.class), executor).join();
+     * }</pre>
+     *
+     * @param types    类型集合
+     * @param executor 执行器
+     */
+    public CompletableFuture<Void> preload(Collection<? extends Type> types, Executor executor) {
+        Objects.requireNonNull(types, "types");
+        Objects.requireNonNull(executor, "executor");
+
+        return new EgggPreloader(this, executor).start(types);
+    }
+
+    /**
+     * 预加载包（扫描包及子包下的类，再并行构建类型图）
+     *
+     * @param pkg         包名
+     * @param classLoader 类加载器
+     */
+    public CompletableFuture<Void> preloadPackage(String pkg, ClassLoader classLoader) {
+        return preloadPackage(pkg, classLoader, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 预加载包（扫描包及子包下的类，再并行构建类型图）
+     *
+     * @param pkg         包名
+     * @param classLoader 类加载器
+     * @param filter      类名过滤器（不通过的类不会被加载）
+     */
+    public CompletableFuture<Void> preloadPackage(String pkg, ClassLoader classLoader, Predicate<String> filter) {
+        return preloadPackage(pkg, classLoader, filter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 预加载包（直接读取目录与 jar 条目，扫描包及子包下的类，再并行构建类型图）
+     *
+     * <pre>{@code
+     * eggg.preloadPackage("demo.dso", classLoader, name -> name.endsWith("Dto"), executor).join();
+     * }</pre>
+     *
+     * @param pkg         包名
+     * @param classLoader 类加载器
+     * @param filter      类名过滤器（不通过的类不会被加载；可以为 null）
+     * @param executor    执行器
+     */
+    public CompletableFuture<Void> preloadPackage(String pkg, ClassLoader classLoader, Predicate<String> filter, Executor executor) {
+        Objects.requireNonNull(pkg, "pkg");
+        Objects.requireNonNull(classLoader, "classLoader");
+        Objects.requireNonNull(executor, "executor");
+
+        return CompletableFuture.supplyAsync(() -> EgggScanner.scan(pkg, classLoader, filter), executor)
+                .thenCompose(classes -> preload(classes, executor));
+    }
+
     ///
 
     public TypeEggg newTypeEggg(Type type) {
@@ -178,6 +469,10 @@ public class Eggg {
         return new FieldEggg(this, classEggg, field);
     }
 
+    public FieldAccessor newFieldAccessor(Field field) {
+        return fieldAccessorFactory.create(field);
+    }
+
     public MethodEggg newMethodEggg(ClassEggg classEggg, Method method) {
         return new MethodEggg(this, classEggg, method);
     }
@@ -194,6 +489,151 @@ public class Eggg {
         return new ParamEggg(this, classEggg, param);
     }
 
+    private ClassValue<TypeEggg> newClassTypeEgggCached() {
+        return new ClassValue<TypeEggg>() {
+            @Override
+            protected TypeEggg computeValue(Class<?> clazz) {
+                TypeEggg tmp;
+                if (clazz.isAnonymousClass()) {
+                    tmp = getTypeEggg(clazz.getGenericSuperclass(), false);
+                } else {
+                    long start = System.nanoTime();
+                    tmp = newTypeEggg(clazz);
+                    typeEgggStats.recordLoad(System.nanoTime() - start);
+                }
+
+                //登记到分区（用于按分区驱逐）
+                getPartition(clazz).rawClasses.add(clazz);
+
+                if (typeEgggStats.isEnabled()) {
+                    //告知调用者未命中（放在最后：构建期间的其它获取会复位它）
+                    classTypeEgggComputed.get()[0] = true;
+                }
+
+                return tmp;
+            }
+        };
+    }
+
+    private ClassValue<EgggPartition> newClassPartitionCached() {
+        return new ClassValue<EgggPartition>() {
+            @Override
+            protected EgggPartition computeValue(Class<?> clazz) {
+                ClassLoader classLoader = clazz.getClassLoader();
+
+                if (isSharedLoader(classLoader)) {
+                    //共享分区不放进槽位（withCache 会替换它）
+                    return null;
+                }
+
+                synchronized (partitions) {
+                    WeakReference<EgggPartition> ref = partitions.get(classLoader);
+                    EgggPartition partition = (ref == null ? null : ref.get());
+
+                    if (partition == null) {
+                        partition = newPartition();
+                        partitions.put(classLoader, new WeakReference<>(partition));
+                    }
+
+                    return partition;
+                }
+            }
+        };
+    }
+
+    private EgggPartition newPartition() {
+        EgggPartition partition = new EgggPartition(typeEgggCacheFactory.get(), classEgggCacheFactory.get());
+
+        partition.typeEgggCached.setEvictionListener(typeEgggStats::recordEviction);
+        partition.classEgggCached.setEvictionListener(classEgggStats::recordEviction);
+
+        return partition;
+    }
+
+    private EgggPartition newUnrelatedPartition() {
+        EgggPartition partition = new EgggPartition(new EgggCacheWeak<>(), new EgggCacheWeak<>());
+
+        partition.typeEgggCached.setEvictionListener(typeEgggStats::recordEviction);
+        partition.classEgggCached.setEvictionListener(classEgggStats::recordEviction);
+
+        return partition;
+    }
+
+    /**
+     * 获取类型所在的分区（按类型涉及的最深一层类加载器）
+     */
+    private EgggPartition getPartition(Type type) {
+        Class<?> anchor = EgggPartition.anchorOf(type);
+
+        if (anchor == null) {
+            return unrelatedPartition;
+        }
+
+        EgggPartition partition = classPartitionCached.get(anchor);
+        return (partition == null ? sharedPartition : partition);
+    }
+
+    private List<EgggPartition> getPartitions() {
+        List<EgggPartition> list = new ArrayList<>();
+
+        synchronized (partitions) {
+            for (WeakReference<EgggPartition> ref : partitions.values()) {
+                EgggPartition partition = ref.get();
+                if (partition != null) {
+                    list.add(partition);
+                }
+            }
+        }
+
+        return list;
+    }
+
+    private void clearPartition(EgggPartition partition) {
+        ClassValue<TypeEggg> tmp = classTypeEgggCached;
+        for (Class<?> clazz : partition.rawClasses) {
+            tmp.remove(clazz);
+        }
+
+        partition.rawClasses.clear();
+        partition.typeEgggCached.clear();
+        partition.classEgggCached.clear();
+    }
+
+    /**
+     * 是否为共享的类加载器（启动类加载器，或 Eggg 所在类加载器及其上级）
+     */
+    static boolean isSharedLoader(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return true;
+        }
+
+        for (ClassLoader tmp = Eggg.class.getClassLoader(); tmp != null; tmp = tmp.getParent()) {
+            if (tmp == classLoader) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 获取或构建（命中时走无锁的 get；未命中时才做单飞构建）
+     */
+    private static <K, V> V getOrBuild(EgggCache<K, V> cached, EgggLoader<K, V> loader, K key, Function<K, V> builder, EgggStatsCounter stats, boolean record) {
+        V value = cached.get(key);
+
+        if (value == null) {
+            if (record) {
+                stats.recordMiss();
+            }
+            value = loader.load(cached, key, builder, stats);
+        } else if (record) {
+            stats.recordHit();
+        }
+
+        return value;
+    }
+
     ///
 
 
@@ -204,25 +644,41 @@ public class Eggg {
         if (declaringClass == owner.getType()) {
             return owner.getGenericInfo();
         } else {
-            if (declaringClass.isInterface()) {
-                for (Type superInte : owner.getType().getGenericInterfaces()) {
-                    Type superType = genericResolver.reviewType(superInte, owner.getGenericInfo());
-                    TypeEggg superTypeEggg = getTypeEggg(superType);
+            //每个 (owner, declaringClass) 只查找一次（同一个类的所有成员共用）
+            Map<Class<?>, Map<String, Type>> cached = owner.getGenericInfoForDeclaring();
+            Map<String, Type> genericInfo = cached.get(declaringClass);
 
-                    if (declaringClass.isAssignableFrom(superTypeEggg.getType())) {
-                        return findGenericInfo(superTypeEggg, declaringClass);
-                    }
-                }
+            if (genericInfo == null) {
+                genericInfo = resolveGenericInfo(owner, declaringClass);
+                cached.putIfAbsent(declaringClass, genericInfo);
             }
 
-            Type superType = genericResolver.reviewType(owner.getType().getGenericSuperclass(), owner.getGenericInfo());
+            return genericInfo;
+        }
+    }
 
-            if (superType == null || superType == Object.class) {
-                return owner.getGenericInfo();
-            } else {
-                return findGenericInfo(getTypeEggg(superType), declaringClass);
+    /**
+     * 查找声明类的泛型信息（沿父类与接口向上查找）
+     */
+    protected Map<String, Type> resolveGenericInfo(TypeEggg owner, Class<?> declaringClass) {
+        if (declaringClass.isInterface()) {
+            for (Type superInte : owner.getType().getGenericInterfaces()) {
+                Type superType = genericResolver.reviewType(superInte, owner.getGenericInfo());
+                TypeEggg superTypeEggg = getTypeEggg(superType);
+
+                if (declaringClass.isAssignableFrom(superTypeEggg.getType())) {
+                    return findGenericInfo(superTypeEggg, declaringClass);
+                }
             }
         }
+
+        Type superType = genericResolver.reviewType(owner.getType().getGenericSuperclass(), owner.getGenericInfo());
+
+        if (superType == null || superType == Object.class) {
+            return owner.getGenericInfo();
+        } else {
+            return findGenericInfo(getTypeEggg(superType), declaringClass);
+        }
     }
 
     /**
@@ -293,7 +749,7 @@ public class Eggg {
      * 生成泛型信息
      */
     protected Map<String, Type> createGenericInfo(Type type) {
-        return genericResolver.createTypeSelfGenericMap(type);
+        return genericResolver.createTypeSelfGenericBindings(type);
     }
 
     /**
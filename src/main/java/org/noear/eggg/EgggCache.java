@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.util.function.Function;
+
+/**
+ * 元数据缓存（可按部署选择：强引用、软引用、有界）
+ *
+ * <pre>{@code
+ * Eggg eggg = new Eggg().withCache(() -> EgggCache.bounded(2000), () -> EgggCache.bounded(500));
+ * }</pre>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public interface EgggCache<K, V> {
+    /**
+     * 强引用缓存（不淘汰）
+     */
+    static <K, V> EgggCache<K, V> strong() {
+        return new EgggCacheStrong<>();
+    }
+
+    /**
+     * 软引用缓存（内存紧张时由 GC 回收）
+     */
+    static <K, V> EgggCache<K, V> soft() {
+        return new EgggCacheSoft<>();
+    }
+
+    /**
+     * 有界缓存（按条目数淘汰，W-TinyLFU）
+     *
+     * @param maxEntries 最大条目数
+     */
+    static <K, V> EgggCache<K, V> bounded(long maxEntries) {
+        return new EgggCacheBounded<>(maxEntries, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * 有界缓存（按条目数与权重淘汰，W-TinyLFU）
+     *
+     * @param maxEntries 最大条目数
+     * @param maxWeight  最大权重
+     * @param weigher    权重计算器
+     */
+    static <K, V> EgggCache<K, V> bounded(long maxEntries, long maxWeight, EgggCacheWeigher<K, V> weigher) {
+        return new EgggCacheBounded<>(maxEntries, maxWeight, weigher);
+    }
+
+    /**
+     * 获取（不存在时返回 null）
+     */
+    V get(K key);
+
+    /**
+     * 获取或构建（同一个 key 只构建一次）
+     */
+    V computeIfAbsent(K key, Function<K, V> builder);
+
+    /**
+     * 移除
+     */
+    void remove(K key);
+
+    /**
+     * 当前条目数
+     */
+    int size();
+
+    /**
+     * 清空
+     */
+    void clear();
+
+    /**
+     * 设置淘汰监听（容量淘汰或被 GC 回收时触发；主动移除与清空不触发）
+     */
+    default void setEvictionListener(Runnable listener) {
+
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 有界缓存（W-TinyLFU：窗口 LRU + 分段 LRU 主区 + 频率草图准入）
+ *
+ * <p>读取只做 ConcurrentHashMap.get，访问记录写入有损的读缓冲，由持锁方批量回放；
+ * 新条目先进窗口区，溢出后须凭访问频率胜过主区最老的条目才能留下，从而避免一次性扫描冲掉热点元数据。</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public class EgggCacheBounded<K, V> implements EgggCache<K, V> {
+    private static final int READ_BUFFER_SIZE = 64; //2 的幂
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_DRAIN_MASK = 15; //约每 16 次读尝试回放一次
+
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final long maxEntries;
+    private final long maxWeight;
+    private final EgggCacheWeigher<K, V> weigher;
+
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    //以下状态由 evictionLock 保护
+    private final Deque<K, V> windowDeque = new Deque<>();
+    private final Deque<K, V> probationDeque = new Deque<>();
+    private final Deque<K, V> protectedDeque = new Deque<>();
+    private final FrequencySketch sketch;
+    private Runnable evictionListener;
+
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+    private long totalEntries;
+
+    /**
+     * @param maxEntries 最大条目数
+     * @param maxWeight  最大权重（没有权重计算器时，每个条目的权重为 1）
+     * @param weigher    权重计算器（可以为 null）
+     */
+    public EgggCacheBounded(long maxEntries, long maxWeight, EgggCacheWeigher<K, V> weigher) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0");
+        }
+
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be greater than 0");
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+
+        //窗口区占 1%，主区中保护段占 80%
+        long maximum = (weigher == null ? Math.min(maxEntries, maxWeight) : maxWeight);
+        this.windowMaximum = Math.max(1, maximum / 100);
+        this.protectedMaximum = (long) ((maximum - windowMaximum) * 0.8d);
+        this.sketch = new FrequencySketch(Math.min(maxEntries, maximum));
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+
+        if (node == null) {
+            return null;
+        } else {
+            afterRead(node);
+            return node.value;
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<K, V> builder) {
+        Node<K, V> node = data.get(key);
+
+        if (node != null) {
+            afterRead(node);
+            return node.value;
+        }
+
+        boolean[] created = new boolean[1];
+        node = data.computeIfAbsent(key, k -> {
+            V value = builder.apply(k);
+            created[0] = true;
+            return new Node<>(k, value, weigh(k, value));
+        });
+
+        if (created[0]) {
+            afterWrite(node);
+        } else {
+            afterRead(node);
+        }
+
+        return node.value;
+    }
+
+    @Override
+    public void remove(K key) {
+        Node<K, V> node = data.get(key);
+
+        if (node != null) {
+            evictionLock.lock();
+            try {
+                if (node.queue != 0) {
+                    removeNode(node);
+                } else {
+                    //还未登记进队列（写入后回调尚未执行）
+                    data.remove(key, node);
+                    node.queue = -1;
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            windowDeque.clear();
+            probationDeque.clear();
+            protectedDeque.clear();
+
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                readBuffer.lazySet(i, null);
+            }
+
+            data.clear();
+            windowWeight = 0;
+            protectedWeight = 0;
+            totalWeight = 0;
+            totalEntries = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setEvictionListener(Runnable listener) {
+        this.evictionListener = listener;
+    }
+
+    /// //////////
+
+    private long weigh(K key, V value) {
+        if (weigher == null) {
+            return 1;
+        } else {
+            long weight = weigher.apply(key, value);
+            if (weight < 0) {
+                throw new IllegalArgumentException("weight must not be negative: " + key);
+            }
+            return weight;
+        }
+    }
+
+    /**
+     * 读后（有损记录，竞争时直接丢弃）
+     */
+    private void afterRead(Node<K, V> node) {
+        int idx = ThreadLocalRandom.current().nextInt();
+        readBuffer.lazySet(idx & READ_BUFFER_MASK, node);
+
+        if ((idx & READ_DRAIN_MASK) == 0 && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 写后（新条目进窗口区，再做淘汰）
+     */
+    private void afterWrite(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+
+            if (node.queue != 0 || data.get(node.key) != node) {
+                //已被清空或移除
+                return;
+            }
+
+            sketch.increment(node.key);
+
+            node.queue = WINDOW;
+            windowDeque.addLast(node);
+            windowWeight += node.weight;
+            totalWeight += node.weight;
+            totalEntries++;
+
+            evictEntries();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<K, V> node = readBuffer.getAndSet(i, null);
+            if (node != null) {
+                onAccess(node);
+            }
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue <= 0) {
+            //未登记或已淘汰
+            return;
+        }
+
+        sketch.increment(node.key);
+
+        if (node.queue == WINDOW) {
+            windowDeque.moveToLast(node);
+        } else if (node.queue == PROBATION) {
+            //试用段再次命中，晋升到保护段
+            probationDeque.remove(node);
+            node.queue = PROTECTED;
+            protectedDeque.addLast(node);
+            protectedWeight += node.weight;
+
+            while (protectedWeight > protectedMaximum && protectedDeque.first != null) {
+                Node<K, V> demoted = protectedDeque.pollFirst();
+                protectedWeight -= demoted.weight;
+                demoted.queue = PROBATION;
+                probationDeque.addLast(demoted);
+            }
+        } else {
+            protectedDeque.moveToLast(node);
+        }
+    }
+
+    private boolean isOverflow() {
+        return totalEntries > maxEntries || totalWeight > maxWeight;
+    }
+
+    private void evictEntries() {
+        //1.窗口区溢出的条目，移到试用段末尾成为候选者
+        Node<K, V> candidate = null;
+        while (windowWeight > windowMaximum && windowDeque.first != null) {
+            Node<K, V> node = windowDeque.pollFirst();
+            windowWeight -= node.weight;
+            node.queue = PROBATION;
+            probationDeque.addLast(node);
+
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        //2.主区溢出，候选者与试用段最老的条目（受害者）按频率比较，输的淘汰
+        while (isOverflow()) {
+            Node<K, V> victim = probationDeque.first;
+
+            if (candidate == null || victim == null || victim == candidate) {
+                Node<K, V> eldest = (victim != null ? victim :
+                        (protectedDeque.first != null ? protectedDeque.first : windowDeque.first));
+
+                if (eldest == null) {
+                    break;
+                }
+
+                if (eldest == candidate) {
+                    candidate = candidate.next;
+                }
+
+                evictNode(eldest);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                candidate = candidate.next;
+                evictNode(victim);
+            } else {
+                Node<K, V> next = candidate.next;
+                evictNode(candidate);
+                candidate = next;
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        if (removeNode(node) && evictionListener != null) {
+            evictionListener.run();
+        }
+    }
+
+    private boolean removeNode(Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            windowDeque.remove(node);
+            windowWeight -= node.weight;
+        } else if (node.queue == PROBATION) {
+            probationDeque.remove(node);
+        } else if (node.queue == PROTECTED) {
+            protectedDeque.remove(node);
+            protectedWeight -= node.weight;
+        } else {
+            return false;
+        }
+
+        node.queue = -1;
+        totalWeight -= node.weight;
+        totalEntries--;
+
+        data.remove(node.key, node);
+        return true;
+    }
+
+    /// //////////
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+
+        //以下由 evictionLock 保护（0:未登记, -1:已淘汰）
+        int queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 访问顺序双向队列（头部最老）
+     */
+    private static final class Deque<K, V> {
+        Node<K, V> first;
+        Node<K, V> last;
+
+        void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+
+            last = node;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+
+            node.prev = null;
+            node.next = null;
+        }
+
+        void clear() {
+            for (Node<K, V> n = first; n != null; n = n.next) {
+                n.queue = -1;
+            }
+
+            first = null;
+            last = null;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * 频率草图（4 行计数最小草图，计数上限 15，样本满后整体减半以实现老化）
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb1b2a4a5, 0x5d4e3ca1, 0x3c6ef372};
+
+        private final int[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long maximum) {
+            int size = (int) Math.min(Math.max(maximum, 16), 1 << 18);
+            int capacity = Integer.highestOneBit(size - 1) << 1;
+
+            this.table = new int[capacity];
+            this.mask = capacity - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                int idx = indexOf(hash, i);
+                if (table[idx] < 15) {
+                    table[idx]++;
+                    added = true;
+                }
+            }
+
+            if (added && (++additions >= sampleSize)) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int freq = Integer.MAX_VALUE;
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                freq = Math.min(freq, table[indexOf(hash, i)]);
+            }
+
+            return freq;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] >>>= 1;
+            }
+            additions >>>= 1;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * (long) SEEDS[i];
+            h += (h >>> 32);
+            return ((int) h) & mask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 软引用缓存（内存紧张时由 GC 回收）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public class EgggCacheSoft<K, V> implements EgggCache<K, V> {
+    private final Map<K, SoftValue<K, V>> data = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+    private Runnable evictionListener;
+
+    @Override
+    public V get(K key) {
+        SoftValue<K, V> ref = data.get(key);
+        return (ref == null ? null : ref.get());
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<K, V> builder) {
+        V value = get(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        expungeStaleEntries();
+
+        //用数组接住新值（避免软引用在返回前被回收）
+        Object[] holder = new Object[1];
+        data.compute(key, (k, ref) -> {
+            V tmp = (ref == null ? null : ref.get());
+            if (tmp == null) {
+                tmp = builder.apply(k);
+                ref = new SoftValue<>(k, tmp, queue);
+            }
+
+            holder[0] = tmp;
+            return ref;
+        });
+
+        return (V) holder[0];
+    }
+
+    @Override
+    public void remove(K key) {
+        data.remove(key);
+    }
+
+    @Override
+    public int size() {
+        expungeStaleEntries();
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        data.clear();
+        expungeStaleEntries();
+    }
+
+    @Override
+    public void setEvictionListener(Runnable listener) {
+        this.evictionListener = listener;
+    }
+
+    /**
+     * 清理已被回收的条目
+     */
+    private void expungeStaleEntries() {
+        SoftValue<K, V> ref;
+        while ((ref = (SoftValue<K, V>) queue.poll()) != null) {
+            if (data.remove(ref.key, ref) && evictionListener != null) {
+                evictionListener.run();
+            }
+        }
+    }
+
+    private static class SoftValue<K, V> extends SoftReference<V> {
+        private final K key;
+
+        SoftValue(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * 缓存统计快照（不可变）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public class EgggCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long loadCount;
+    private final long totalLoadTime;
+    private final long maxLoadTime;
+    private final long entryCount;
+
+    public EgggCacheStats(long hitCount, long missCount, long evictionCount, long loadCount, long totalLoadTime, long maxLoadTime, long entryCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.totalLoadTime = totalLoadTime;
+        this.maxLoadTime = maxLoadTime;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * 命中次数
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 未命中次数
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 淘汰次数（容量淘汰或被 GC 回收）
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 构建次数
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * 累计构建时间（纳秒）
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * 最大构建时间（纳秒）
+     */
+    public long getMaxLoadTime() {
+        return maxLoadTime;
+    }
+
+    /**
+     * 平均构建时间（纳秒）
+     */
+    public double getAverageLoadTime() {
+        return loadCount == 0 ? 0.0D : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * 当前条目数
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * 命中率
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0D : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "EgggCacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", loadCount=" + loadCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", maxLoadTime=" + maxLoadTime +
+                ", entryCount=" + entryCount +
+                '}';
+    }
+}
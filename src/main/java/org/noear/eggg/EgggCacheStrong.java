@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 强引用缓存（不淘汰）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public class EgggCacheStrong<K, V> implements EgggCache<K, V> {
+    private final Map<K, V> data = new ConcurrentHashMap<>();
+
+    @Override
+    public V get(K key) {
+        return data.get(key);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<K, V> builder) {
+        V value = data.get(key);
+
+        if (value == null) {
+            value = data.computeIfAbsent(key, builder);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void remove(K key) {
+        data.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        data.clear();
+    }
+}
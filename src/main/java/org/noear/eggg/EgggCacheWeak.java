@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * 弱键、弱值缓存（条目不钉住键与值：没有别处引用时由 GC 回收；用于涉及互不相关类加载器的类型）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class EgggCacheWeak<K, V> implements EgggCache<K, V> {
+    private final Map<K, WeakValue<K, V>> data = new WeakHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+    private Runnable evictionListener;
+
+    @Override
+    public V get(K key) {
+        synchronized (data) {
+            WeakValue<K, V> ref = data.get(key);
+            return (ref == null ? null : ref.get());
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<K, V> builder) {
+        synchronized (data) {
+            expungeStaleEntries();
+
+            WeakValue<K, V> ref = data.get(key);
+            V value = (ref == null ? null : ref.get());
+
+            if (value == null) {
+                value = builder.apply(key);
+                //值引用键（比如 TypeEggg 引用它的类型），值里也只弱引用键
+                data.put(key, new WeakValue<>(key, value, queue));
+            }
+
+            return value;
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        synchronized (data) {
+            data.remove(key);
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (data) {
+            expungeStaleEntries();
+            return data.size();
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (data) {
+            data.clear();
+            expungeStaleEntries();
+        }
+    }
+
+    @Override
+    public void setEvictionListener(Runnable listener) {
+        this.evictionListener = listener;
+    }
+
+    /**
+     * 清理值已被回收的条目（在锁内调用）
+     */
+    private void expungeStaleEntries() {
+        WeakValue<K, V> ref;
+        while ((ref = (WeakValue<K, V>) queue.poll()) != null) {
+            K key = ref.key.get();
+
+            if (key != null && data.get(key) == ref) {
+                data.remove(key);
+
+                if (evictionListener != null) {
+                    evictionListener.run();
+                }
+            }
+        }
+    }
+
+    private static class WeakValue<K, V> extends WeakReference<V> {
+        private final WeakReference<K> key;
+
+        WeakValue(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = new WeakReference<>(key);
+        }
+    }
+}
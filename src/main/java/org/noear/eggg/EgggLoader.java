@@ -0,0 +1,338 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 单飞加载器（同一个 key 只有一个线程构建，其它线程等待它的结果；构建在缓存的桶锁之外进行）
+ *
+ * <p>构建中可以提前发布占位实例（publish），占位实例只对构建它的线程可见（同线程重入）。
+ * 嵌套构建的结果先挂在当前线程的事务上，最外层完成后才一起放入缓存（其它线程不会拿到引用了占位实例的半成品）</p>
+ *
+ * <p>多个线程相互等待成环时（类包装器的加载锁也登记在同一个等待关系里，见 beginWait），
+ * 发现环的线程放弃它持有的全部构建与加载锁（Abort），等对方完成后再重试</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class EgggLoader<K, V> {
+    private final Map<K, Loading<V>> loadings = new ConcurrentHashMap<>();
+    //线程正在等待的对象（构建或类包装器的加载锁；所有加载器共用，用于发现相互等待）
+    private static final Map<Thread, Waitable> waitings = new ConcurrentHashMap<>();
+    //线程的事务（持有的构建与加载锁层数，以及待提交的构建结果）
+    private static final ThreadLocal<Transaction> transactions = ThreadLocal.withInitial(Transaction::new);
+
+    /**
+     * 加载（缓存未命中时调用）
+     */
+    V load(EgggCache<K, V> cached, K key, Function<K, V> builder, EgggStatsCounter stats) {
+        Thread current = Thread.currentThread();
+
+        while (true) {
+            Loading<V> loading = new Loading<>(current);
+            Loading<V> prev = loadings.putIfAbsent(key, loading);
+
+            if (prev != null) {
+                if (prev.owner == current) {
+                    //同线程重入（构建中的占位实例，或已构建、待提交的实例）
+                    return prev.earlyOrThrow(key);
+                }
+
+                V value = await(prev);
+
+                if (value != null) {
+                    return value;
+                } else {
+                    //对方放弃了构建，重试
+                    continue;
+                }
+            }
+
+            Transaction tx = enter();
+
+            try {
+                //再查一次（可能刚刚有别的线程构建完成）
+                V value = cached.get(key);
+
+                if (value == null) {
+                    long start = System.nanoTime();
+                    value = builder.apply(key);
+                    stats.recordLoad(System.nanoTime() - start);
+                }
+
+                loading.early = value;
+                tx.pendings.add(new Pending<>(this, cached, key, loading));
+            } catch (Abort ex) {
+                loadings.remove(key, loading);
+                loading.complete(null);
+
+                if (exit(tx, false)) {
+                    ex.target.awaitQuietly();
+                    continue;
+                } else {
+                    throw ex;
+                }
+            } catch (RuntimeException | Error ex) {
+                loadings.remove(key, loading);
+                loading.completeExceptionally(ex);
+                exit(tx, false);
+                throw ex;
+            }
+
+            exit(tx, true);
+            //已提交时取缓存里的值，否则是待提交的值
+            return loading.isDone() ? loading.join() : loading.early;
+        }
+    }
+
+    /**
+     * 提前发布占位实例（只有正在构建它的线程可以发布）
+     */
+    void publish(K key, V early) {
+        Loading<V> loading = loadings.get(key);
+
+        if (loading != null && loading.owner == Thread.currentThread()) {
+            loading.early = early;
+        }
+    }
+
+    /**
+     * 等待别的线程的构建（成环时放弃，见 Abort）
+     */
+    private static <V> V await(Loading<V> prev) {
+        if (beginWait(prev) == false) {
+            throw new Abort(prev);
+        }
+
+        try {
+            return prev.await();
+        } finally {
+            endWait();
+        }
+    }
+
+    /**
+     * 进入当前线程的事务（开始构建，或拿到加载锁之前调用）
+     */
+    static Transaction enter() {
+        Transaction tx = transactions.get();
+        tx.depth++;
+        return tx;
+    }
+
+    /**
+     * 退出当前线程的事务（最外层成功时提交待提交的构建结果，失败时放弃）
+     *
+     * @return 是否为最外层
+     */
+    static boolean exit(Transaction tx, boolean success) {
+        if (--tx.depth > 0) {
+            return false;
+        }
+
+        List<Pending<?, ?>> tmp = new ArrayList<>(tx.pendings);
+        tx.pendings.clear();
+
+        for (Pending<?, ?> pending : tmp) {
+            if (success) {
+                pending.commit();
+            } else {
+                pending.abandon();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 登记当前线程开始等待 target（先登记再检查，两个线程相互等待时，至少后登记的一个能发现环）
+     *
+     * @return 成环时不登记，返回 false（调用方不能等待，要抛出 Abort）
+     */
+    static boolean beginWait(Waitable target) {
+        Thread current = Thread.currentThread();
+
+        waitings.put(current, target);
+
+        //不持有任何东西的线程不会在环上（等待关系变化中的误判），照常等待
+        if (transactions.get().depth > 0 && isCyclic(target, current)) {
+            waitings.remove(current);
+            return false;
+        } else {
+            return true;
+        }
+    }
+
+    /**
+     * 当前线程结束等待
+     */
+    static void endWait() {
+        waitings.remove(Thread.currentThread());
+    }
+
+    /**
+     * 沿着 "持有者 -> 它在等待的对象" 查找，是否回到当前线程
+     */
+    private static boolean isCyclic(Waitable target, Thread current) {
+        Waitable next = target;
+        //步数上限（与当前线程无关的环，由环里的线程自己处理）
+        int steps = waitings.size() + 1;
+
+        while (next != null && steps-- > 0) {
+            Thread owner = next.getWaitOwner();
+
+            if (owner == null) {
+                return false;
+            }
+
+            if (owner == current) {
+                return true;
+            }
+
+            next = waitings.get(owner);
+        }
+
+        return false;
+    }
+
+    /**
+     * 可等待的对象
+     */
+    interface Waitable {
+        /**
+         * 持有者线程（已结束时为 null）
+         */
+        Thread getWaitOwner();
+
+        /**
+         * 等待结束（不关心结果）
+         */
+        void awaitQuietly();
+    }
+
+    /**
+     * 相互等待成环（发现环的线程放弃持有的全部构建与加载锁；由最外层的构建或加载锁接住，等 target 结束后重试）
+     *
+     * <p>会穿过处理器（handler），处理器不要吞掉它</p>
+     */
+    static class Abort extends RuntimeException {
+        final Waitable target;
+
+        Abort(Waitable target) {
+            super("Mutual waiting, retry later", null, false, false);
+            this.target = target;
+        }
+    }
+
+    /**
+     * 线程的事务
+     */
+    static class Transaction {
+        private int depth;
+        private final List<Pending<?, ?>> pendings = new ArrayList<>();
+    }
+
+    /**
+     * 待提交的构建结果
+     */
+    static class Pending<K, V> {
+        private final EgggLoader<K, V> loader;
+        private final EgggCache<K, V> cached;
+        private final K key;
+        private final Loading<V> loading;
+
+        Pending(EgggLoader<K, V> loader, EgggCache<K, V> cached, K key, Loading<V> loading) {
+            this.loader = loader;
+            this.cached = cached;
+            this.key = key;
+            this.loading = loading;
+        }
+
+        void commit() {
+            V early = loading.early;
+            //只在放入时占用桶锁
+            V value = cached.computeIfAbsent(key, k -> early);
+
+            loading.complete(value);
+            loader.loadings.remove(key, loading);
+        }
+
+        void abandon() {
+            loader.loadings.remove(key, loading);
+            //等待的线程拿到 null 后重试
+            loading.complete(null);
+        }
+    }
+
+    /**
+     * 正在进行的构建
+     */
+    static class Loading<V> extends CompletableFuture<V> implements Waitable {
+        final Thread owner;
+        volatile V early;
+
+        Loading(Thread owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public Thread getWaitOwner() {
+            return isDone() ? null : owner;
+        }
+
+        @Override
+        public void awaitQuietly() {
+            try {
+                join();
+            } catch (RuntimeException ignored) {
+                //不关心结果
+            }
+        }
+
+        V earlyOrThrow(Object key) {
+            V tmp = early;
+
+            if (tmp == null) {
+                throw new IllegalStateException("Recursive build: " + key);
+            } else {
+                return tmp;
+            }
+        }
+
+        V await() {
+            try {
+                return join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    throw ex;
+                }
+            }
+        }
+    }
+}
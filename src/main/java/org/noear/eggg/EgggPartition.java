@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.reflect.*;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存分区（每个类加载器一个）
+ *
+ * <p>分区只被该类加载器下的类（通过 ClassValue 槽位）强引用，类加载器卸载时整个分区随之回收。</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class EgggPartition {
+    final EgggCache<Type, TypeEggg> typeEgggCached;
+    final EgggCache<TypeEggg, ClassEggg> classEgggCached;
+
+    /**
+     * 放在 ClassValue 层的原始类（用于按分区驱逐）
+     */
+    final Set<Class<?>> rawClasses = ConcurrentHashMap.newKeySet();
+
+    EgggPartition(EgggCache<Type, TypeEggg> typeEgggCached, EgggCache<TypeEggg, ClassEggg> classEgggCached) {
+        this.typeEgggCached = typeEgggCached;
+        this.classEgggCached = classEgggCached;
+    }
+
+    /**
+     * 获取类型的锚点类（类型涉及的所有类中，类加载器最深的那个）
+     *
+     * @return 涉及互不相关的类加载器（比如两个兄弟模块）时返回 null：放在哪个分区都会钉住另一个类加载器
+     */
+    static Class<?> anchorOf(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        }
+
+        Class<?> anchor = anchorOf(type, null);
+
+        if (anchor == Unrelated.class) {
+            return null;
+        } else {
+            return (anchor == null ? Object.class : anchor);
+        }
+    }
+
+    private static Class<?> anchorOf(Type type, Class<?> anchor) {
+        if (type instanceof Class<?>) {
+            return deeper(anchor, (Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType pt = (ParameterizedType) type;
+
+            anchor = anchorOf(pt.getRawType(), anchor);
+            for (Type arg : (pt instanceof GenericResolver.ParameterizedTypeImpl ?
+                    ((GenericResolver.ParameterizedTypeImpl) pt).actualTypeArgumentsNoCopy() : pt.getActualTypeArguments())) {
+                anchor = anchorOf(arg, anchor);
+            }
+
+            if (pt.getOwnerType() != null) {
+                anchor = anchorOf(pt.getOwnerType(), anchor);
+            }
+
+            return anchor;
+        } else if (type instanceof GenericArrayType) {
+            return anchorOf(((GenericArrayType) type).getGenericComponentType(), anchor);
+        } else if (type instanceof WildcardType) {
+            WildcardType wt = (WildcardType) type;
+            boolean impl = wt instanceof GenericResolver.WildcardTypeImpl;
+
+            for (Type bound : (impl ? ((GenericResolver.WildcardTypeImpl) wt).upperBoundsNoCopy() : wt.getUpperBounds())) {
+                anchor = anchorOf(bound, anchor);
+            }
+
+            for (Type bound : (impl ? ((GenericResolver.WildcardTypeImpl) wt).lowerBoundsNoCopy() : wt.getLowerBounds())) {
+                anchor = anchorOf(bound, anchor);
+            }
+
+            return anchor;
+        } else if (type instanceof TypeVariable) {
+            //不展开边界（可能自引用），取声明它的类
+            GenericDeclaration decl = ((TypeVariable<?>) type).getGenericDeclaration();
+
+            if (decl instanceof Class) {
+                return deeper(anchor, (Class<?>) decl);
+            } else if (decl instanceof Member) {
+                return deeper(anchor, ((Member) decl).getDeclaringClass());
+            }
+        }
+
+        return anchor;
+    }
+
+    /**
+     * 取类加载器更深的类（b 的类加载器是 a 的类加载器的下级时，取 b；互不相关时取 Unrelated）
+     */
+    private static Class<?> deeper(Class<?> a, Class<?> b) {
+        if (a == null) {
+            return b;
+        }
+
+        if (a == Unrelated.class) {
+            return a;
+        }
+
+        ClassLoader la = a.getClassLoader();
+        ClassLoader lb = b.getClassLoader();
+
+        //共享的类加载器不会先于 Eggg 卸载，不用考虑
+        if (la == lb || Eggg.isSharedLoader(lb)) {
+            return a;
+        }
+
+        if (Eggg.isSharedLoader(la) || isAncestor(la, lb)) {
+            return b;
+        }
+
+        if (isAncestor(lb, la)) {
+            return a;
+        }
+
+        return Unrelated.class;
+    }
+
+    /**
+     * parent 是否为 child 的上级
+     */
+    private static boolean isAncestor(ClassLoader parent, ClassLoader child) {
+        for (ClassLoader tmp = child.getParent(); tmp != null; tmp = tmp.getParent()) {
+            if (tmp == parent) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 互不相关的标记
+     */
+    private static final class Unrelated {
+    }
+}
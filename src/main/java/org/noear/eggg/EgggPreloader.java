@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 预加载器（并行构建类型图：字段、属性、创造器参数的类型，共享依赖只构建一次）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class EgggPreloader {
+    private final Eggg eggg;
+    private final Executor executor;
+
+    private final Set<Type> visited = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    EgggPreloader(Eggg eggg, Executor executor) {
+        this.eggg = eggg;
+        this.executor = executor;
+    }
+
+    CompletableFuture<Void> start(Collection<? extends Type> types) {
+        //占位（避免提交过程中提前完成）
+        pending.incrementAndGet();
+
+        for (Type type : types) {
+            submit(type, true);
+        }
+
+        done();
+        return future;
+    }
+
+    private void submit(Type type, boolean root) {
+        if (type == null || future.isDone() || visited.add(type) == false) {
+            return;
+        }
+
+        pending.incrementAndGet();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    load(type, root);
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                } finally {
+                    done();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+            done();
+        }
+    }
+
+    private void done() {
+        if (pending.decrementAndGet() == 0) {
+            future.complete(null);
+        }
+    }
+
+    private void load(Type type, boolean root) {
+        TypeEggg typeEggg = eggg.getTypeEggg(type);
+
+        //类型参数与数组元素
+        if (typeEggg.isParameterizedType()) {
+            for (Type arg : typeEggg.getActualTypeArguments()) {
+                submit(arg, false);
+            }
+        } else if (typeEggg.isGenericArrayType()) {
+            submit(typeEggg.getGenericArrayType().getGenericComponentType(), false);
+        } else if (typeEggg.isArray()) {
+            submit(typeEggg.getType().getComponentType(), false);
+        }
+
+        if (root == false && isIntrospectable(typeEggg.getType()) == false) {
+            return;
+        }
+
+        ClassEggg classEggg = typeEggg.getClassEggg();
+
+        for (FieldEggg fe : classEggg.getAllFieldEgggs()) {
+            if (fe.isStatic() == false) {
+                submit(fe.getGenericType(), false);
+            }
+        }
+
+        for (PropertyEggg pe : classEggg.getPropertyEgggs()) {
+            if (pe.getGetterEggg() != null) {
+                submit(pe.getGetterEggg().getGenericType(), false);
+            }
+
+            if (pe.getSetterEggg() != null) {
+                submit(pe.getSetterEggg().getGenericType(), false);
+            }
+        }
+
+        ConstrEggg creator = classEggg.getCreator();
+        if (creator != null) {
+            for (ParamEggg pe : creator.getParamEgggAry()) {
+                submit(pe.getGenericType(), false);
+            }
+        }
+    }
+
+    /**
+     * 是否需要分析（基础类型、数组、JDK 类型只构建 TypeEggg）
+     */
+    private static boolean isIntrospectable(Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray()) {
+            return false;
+        }
+
+        String name = clazz.getName();
+
+        return (name.startsWith("java.") ||
+                name.startsWith("javax.") ||
+                name.startsWith("jdk.") ||
+                name.startsWith("sun.") ||
+                name.startsWith("com.sun.")) == false;
+    }
+}
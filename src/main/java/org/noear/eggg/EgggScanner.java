@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 包扫描器（直接读取目录与 jar 条目；只有通过过滤的类名才会被加载，且不做初始化）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class EgggScanner {
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * 扫描包下的类
+     *
+     * @param pkg         包名（会包含子包）
+     * @param classLoader 类加载器
+     * @param filter      类名过滤器（可以为 null）
+     */
+    static List<Class<?>> scan(String pkg, ClassLoader classLoader, Predicate<String> filter) {
+        String path = pkg.replace('.', '/');
+        if (path.length() > 0 && path.endsWith("/") == false) {
+            path = path + "/";
+        }
+
+        Set<String> classNames = new LinkedHashSet<>();
+
+        try {
+            Enumeration<URL> urls = classLoader.getResources(path);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+
+                if ("file".equals(url.getProtocol())) {
+                    scanDirectory(toFile(url), path, classNames);
+                } else {
+                    URLConnection conn = url.openConnection();
+                    if (conn instanceof JarURLConnection) {
+                        conn.setUseCaches(false);
+                        try (JarFile jarFile = ((JarURLConnection) conn).getJarFile()) {
+                            scanJar(jarFile, path, classNames);
+                        }
+                    }
+                }
+            }
+
+            if (classLoader instanceof URLClassLoader) {
+                //没有目录条目的 jar，getResources 找不到包路径（直接读它的条目）
+                for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+                    if ("file".equals(url.getProtocol()) && url.getFile().endsWith(".jar")) {
+                        File file = toFile(url);
+                        if (file.isFile()) {
+                            try (JarFile jarFile = new JarFile(file)) {
+                                scanJar(jarFile, path, classNames);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Can't scan package: " + pkg, ex);
+        }
+
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            if (filter != null && filter.test(className) == false) {
+                continue;
+            }
+
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError ignore) {
+                //依赖缺失的类，跳过
+            }
+        }
+
+        return classes;
+    }
+
+    private static File toFile(URL url) throws IOException {
+        return new File(URLDecoder.decode(url.getFile(), "UTF-8"));
+    }
+
+    private static void scanDirectory(File dir, String path, Set<String> classNames) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (file.isDirectory()) {
+                scanDirectory(file, path + file.getName() + "/", classNames);
+            } else {
+                addClassName(path + file.getName(), classNames);
+            }
+        }
+    }
+
+    private static void scanJar(JarFile jarFile, String path, Set<String> classNames) {
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+
+            if (entry.isDirectory() == false && entry.getName().startsWith(path)) {
+                addClassName(entry.getName(), classNames);
+            }
+        }
+    }
+
+    private static void addClassName(String entryName, Set<String> classNames) {
+        if (entryName.endsWith(CLASS_SUFFIX) == false) {
+            return;
+        }
+
+        String className = entryName.substring(0, entryName.length() - CLASS_SUFFIX.length()).replace('/', '.');
+
+        if (className.endsWith("package-info") || className.endsWith("module-info")) {
+            return;
+        }
+
+        //跳过匿名类与局部类（如 Foo$1、Foo$1Bar）
+        int idx = className.lastIndexOf('$');
+        if (idx > 0 && idx + 1 < className.length() && Character.isDigit(className.charAt(idx + 1))) {
+            return;
+        }
+
+        classNames.add(className);
+    }
+}
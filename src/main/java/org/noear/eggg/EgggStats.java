@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * Eggg 统计快照（不可变）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public class EgggStats {
+    private final EgggCacheStats typeEgggStats;
+    private final EgggCacheStats classEgggStats;
+
+    public EgggStats(EgggCacheStats typeEgggStats, EgggCacheStats classEgggStats) {
+        this.typeEgggStats = typeEgggStats;
+        this.classEgggStats = classEgggStats;
+    }
+
+    /**
+     * 类型包装器缓存统计
+     */
+    public EgggCacheStats getTypeEgggStats() {
+        return typeEgggStats;
+    }
+
+    /**
+     * 类包装器缓存统计
+     */
+    public EgggCacheStats getClassEgggStats() {
+        return classEgggStats;
+    }
+
+    @Override
+    public String toString() {
+        return "EgggStats{" +
+                "typeEgggStats=" + typeEgggStats +
+                ", classEgggStats=" + classEgggStats +
+                '}';
+    }
+}
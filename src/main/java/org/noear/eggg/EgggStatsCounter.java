@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存统计计数器（分段累加，热路径上几乎无争用；未启用时只有一次字段判断）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class EgggStatsCounter {
+    private boolean enabled;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0L);
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void recordHit() {
+        if (enabled) {
+            hitCount.increment();
+        }
+    }
+
+    void recordMiss() {
+        if (enabled) {
+            missCount.increment();
+        }
+    }
+
+    void recordEviction() {
+        if (enabled) {
+            evictionCount.increment();
+        }
+    }
+
+    void recordLoad(long loadTime) {
+        if (enabled) {
+            loadCount.increment();
+            totalLoadTime.add(loadTime);
+            maxLoadTime.accumulate(loadTime);
+        }
+    }
+
+    EgggCacheStats snapshot(long entryCount) {
+        return new EgggCacheStats(hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                loadCount.sum(),
+                totalLoadTime.sum(),
+                maxLoadTime.get(),
+                entryCount);
+    }
+
+    EgggCacheStats snapshotThenReset(long entryCount) {
+        return new EgggCacheStats(hitCount.sumThenReset(),
+                missCount.sumThenReset(),
+                evictionCount.sumThenReset(),
+                loadCount.sumThenReset(),
+                totalLoadTime.sumThenReset(),
+                maxLoadTime.getThenReset(),
+                entryCount);
+    }
+}
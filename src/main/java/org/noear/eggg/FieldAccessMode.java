@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * 字段访问模式（内存语义）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public enum FieldAccessMode {
+    /**
+     * 普通（按字段声明的语义）
+     */
+    PLAIN,
+    /**
+     * 不透明（不会被优化掉，且同一个字段的读写保持一致的顺序）
+     */
+    OPAQUE,
+    /**
+     * 易变（同 volatile 字段的读写）
+     */
+    VOLATILE,
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * 字段访问器（每个字段一个；由 FieldAccessorFactory 创建）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public interface FieldAccessor {
+    /**
+     * 获取值（静态字段的 target 为 null）
+     */
+    Object get(Object target);
+
+    /**
+     * 设置值（静态字段的 target 为 null）
+     */
+    void set(Object target, Object value);
+
+    /**
+     * 获取 int 值（实现时直接读取，不装箱）
+     */
+    default int getInt(Object target) {
+        return (Integer) get(target);
+    }
+
+    /**
+     * 获取 long 值（实现时直接读取，不装箱）
+     */
+    default long getLong(Object target) {
+        return (Long) get(target);
+    }
+
+    /**
+     * 获取 double 值（实现时直接读取，不装箱）
+     */
+    default double getDouble(Object target) {
+        return (Double) get(target);
+    }
+
+    /**
+     * 获取 boolean 值（实现时直接读取，不装箱）
+     */
+    default boolean getBoolean(Object target) {
+        return (Boolean) get(target);
+    }
+
+    /**
+     * 设置 int 值（实现时直接写入，不装箱）
+     */
+    default void setInt(Object target, int value) {
+        set(target, value);
+    }
+
+    /**
+     * 设置 long 值（实现时直接写入，不装箱）
+     */
+    default void setLong(Object target, long value) {
+        set(target, value);
+    }
+
+    /**
+     * 设置 double 值（实现时直接写入，不装箱）
+     */
+    default void setDouble(Object target, double value) {
+        set(target, value);
+    }
+
+    /**
+     * 设置 boolean 值（实现时直接写入，不装箱）
+     */
+    default void setBoolean(Object target, boolean value) {
+        set(target, value);
+    }
+
+    /**
+     * 按访问模式获取值（默认为普通读取后加获取屏障）
+     */
+    default Object get(Object target, FieldAccessMode mode) {
+        Object value = get(target);
+
+        if (mode != FieldAccessMode.PLAIN) {
+            MemoryFences.acquire();
+        }
+
+        return value;
+    }
+
+    /**
+     * 按访问模式设置值（默认为释放屏障后普通写入；易变时再加全屏障）
+     */
+    default void set(Object target, Object value, FieldAccessMode mode) {
+        if (mode == FieldAccessMode.PLAIN) {
+            set(target, value);
+        } else {
+            MemoryFences.release();
+            set(target, value);
+
+            if (mode == FieldAccessMode.VOLATILE) {
+                MemoryFences.full();
+            }
+        }
+    }
+}
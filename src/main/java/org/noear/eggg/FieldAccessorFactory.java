@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字段访问器工厂
+ *
+ * <pre>{@code
+ * new Eggg().withFieldAccessorFactory(FieldAccessorFactory.reflect());
+ * }</pre>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+@FunctionalInterface
+public interface FieldAccessorFactory {
+    /**
+     * 创建字段访问器
+     */
+    FieldAccessor create(Field field);
+
+    /**
+     * 反射访问（Field:get、set）
+     */
+    static FieldAccessorFactory reflect() {
+        return FieldAccessorReflect::new;
+    }
+
+    /**
+     * 方法句柄访问（MethodHandle 读写字段，句柄调用可被 JIT 内联；不可用时，退回反射）
+     */
+    static FieldAccessorFactory methodHandle() {
+        return field -> {
+            FieldAccessor fallback = new FieldAccessorReflect(field);
+
+            try {
+                return new FieldAccessorMethodHandle(field, fallback);
+            } catch (Throwable e) {
+                //如模块未开放
+                return fallback;
+            }
+        };
+    }
+
+    /**
+     * 生成访问（每个字段生成一个直接读写字段的访问器类，可被 JIT 内联；Java 15 以下或不允许生成时，退回方法句柄访问，再退回反射）
+     */
+    static FieldAccessorFactory generate() {
+        FieldAccessorFactory methodHandle = methodHandle();
+
+        return field -> {
+            if (FieldAccessorGenerator.isSupported(field)) {
+                try {
+                    return FieldAccessorGenerator.generate(field, new FieldAccessorReflect(field));
+                } catch (Throwable e) {
+                    //如模块未开放，或类定义被拒绝
+                }
+            }
+
+            return methodHandle.create(field);
+        };
+    }
+
+    /**
+     * VarHandle 访问（Java 9+，比生成访问轻量，支持不透明与易变访问模式；不可用时，退回反射）
+     */
+    static FieldAccessorFactory varHandle() {
+        return field -> {
+            FieldAccessor fallback = new FieldAccessorReflect(field);
+
+            if (FieldAccessorVarHandles.isSupported()) {
+                try {
+                    return FieldAccessorVarHandles.create(field, fallback);
+                } catch (Throwable e) {
+                    //如模块未开放
+                }
+            }
+
+            return fallback;
+        };
+    }
+}
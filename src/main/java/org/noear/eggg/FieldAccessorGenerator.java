@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import org.noear.eggg.ClassGenerator.Code;
+import org.noear.eggg.ClassGenerator.ConstantPool;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.noear.eggg.ClassGenerator.*;
+
+/**
+ * 字段访问器生成器（为每个字段生成一个直接 getfield、putfield 的访问器类，可被 JIT 内联）
+ *
+ * <p>Java 15+ 定义为字段所属类的隐藏类（nestmate，可访问私有字段）；更低的版本不生成，由 FieldAccessorFactory 退回方法句柄访问（再退回反射）。
+ * 生成的类在类型不匹配（ClassCastException）或空值（NullPointerException）时，交给反射访问器处理（与 Field:get、set 的行为保持一致）</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class FieldAccessorGenerator {
+    private static final String ACCESSOR_NAME = "org/noear/eggg/FieldAccessor";
+    private static final String ACCESSOR_DESC = "Lorg/noear/eggg/FieldAccessor;";
+    private static final String GET_DESC = "(Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String SET_DESC = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+
+    /**
+     * 是否可生成
+     */
+    static boolean isSupported(Field field) {
+        Class<?> host = field.getDeclaringClass();
+
+        if (ClassGenerator.isSupported(host, FieldAccessor.class) == false) {
+            return false;
+        }
+
+        //设置时要 checkcast 到字段类型，它要能被宿主访问
+        return isAccessible(field.getType(), host);
+    }
+
+    /**
+     * 生成（失败时抛出异常）
+     *
+     * @param fallback 类型不匹配或空值时的访问器（反射）
+     */
+    static FieldAccessor generate(Field field, FieldAccessor fallback) throws Throwable {
+        Class<?> host = field.getDeclaringClass();
+        String className = newClassName(host, "$$EgggAccessor");
+
+        Class<?> clazz = define(host, toBytes(className, field));
+
+        return (FieldAccessor) clazz.getDeclaredConstructor(FieldAccessor.class).newInstance(fallback);
+    }
+
+    static byte[] toBytes(String className, Field field) throws IOException {
+        Class<?> type = field.getType();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        boolean isFinal = Modifier.isFinal(field.getModifiers());
+
+        String hostName = field.getDeclaringClass().getName().replace('.', '/');
+        String fieldDesc = descOf(type);
+
+        ConstantPool cp = new ConstantPool();
+        int fallbackRef = cp.fieldref(className, "fallback", ACCESSOR_DESC);
+        int fieldRef = cp.fieldref(hostName, field.getName(), fieldDesc);
+        int hostClass = cp.clazz(hostName);
+
+        List<Code> methods = new ArrayList<>();
+
+        //<init>(FieldAccessor)
+        Code init = new Code(cp, "<init>", "(" + ACCESSOR_DESC + ")V", 2);
+        init.op(0x2A).op(0xB7).u2(cp.methodref(OBJECT_NAME, "<init>", "()V"));
+        init.op(0x2A).op(0x2B).op(0xB5).u2(fallbackRef);
+        init.op(0xB1);
+
+        //get(Object)
+        Code get = new Code(cp, "get", GET_DESC, 2);
+        if (isStatic) {
+            get.op(0xB2).u2(fieldRef);
+        } else {
+            get.op(0x2B).op(0xC0).u2(hostClass).op(0xB4).u2(fieldRef);
+        }
+        if (type.isPrimitive()) {
+            Class<?> box = boxOf(type);
+            get.op(0xB8).u2(cp.methodref(internalName(box), "valueOf", "(" + fieldDesc + ")" + descOf(box)));
+        }
+        get.op(0xB0);
+        get.handler();
+        get.op(0x2A).op(0xB4).u2(fallbackRef).op(0x2B);
+        get.op(0xB9).u2(cp.interfaceMethodref(ACCESSOR_NAME, "get", GET_DESC)).op(2).op(0);
+        get.op(0xB0);
+
+        //set(Object, Object)
+        Code set = new Code(cp, "set", SET_DESC, 3);
+        if (isFinal == false) {
+            if (isStatic == false) {
+                set.op(0x2B).op(0xC0).u2(hostClass);
+            }
+            set.op(0x2C);
+            if (type.isPrimitive()) {
+                Class<?> box = boxOf(type);
+                set.op(0xC0).u2(cp.clazz(internalName(box)));
+                set.op(0xB6).u2(cp.methodref(internalName(box), type.getName() + "Value", "()" + fieldDesc));
+            } else if (type != Object.class) {
+                set.op(0xC0).u2(cp.clazz(internalName(type)));
+            }
+            set.op(isStatic ? 0xB3 : 0xB5).u2(fieldRef);
+            set.op(0xB1);
+            set.handler();
+        }
+        //只读字段（直接）交给反射处理
+        set.op(0x2A).op(0xB4).u2(fallbackRef).op(0x2B).op(0x2C);
+        set.op(0xB9).u2(cp.interfaceMethodref(ACCESSOR_NAME, "set", SET_DESC)).op(3).op(0);
+        set.op(0xB1);
+
+        methods.add(init);
+        methods.add(get);
+        methods.add(set);
+
+        //基本类型（getInt、setInt 等）：字段是该类型时直接读写（不装箱），否则交给反射处理（与 Field:getInt 等的放宽转换保持一致）
+        for (Primitive pt : PRIMITIVES) {
+            String getDesc = "(Ljava/lang/Object;)" + pt.desc;
+            String setDesc = "(Ljava/lang/Object;" + pt.desc + ")V";
+            String suffix = Character.toUpperCase(pt.type.getName().charAt(0)) + pt.type.getName().substring(1);
+
+            Code getX = new Code(cp, "get" + suffix, getDesc, 2);
+            if (type == pt.type) {
+                if (isStatic) {
+                    getX.op(0xB2).u2(fieldRef);
+                } else {
+                    getX.op(0x2B).op(0xC0).u2(hostClass).op(0xB4).u2(fieldRef);
+                }
+                getX.op(pt.returnOp);
+                getX.handler();
+            }
+            getX.op(0x2A).op(0xB4).u2(fallbackRef).op(0x2B);
+            getX.op(0xB9).u2(cp.interfaceMethodref(ACCESSOR_NAME, "get" + suffix, getDesc)).op(2).op(0);
+            getX.op(pt.returnOp);
+            methods.add(getX);
+
+            Code setX = new Code(cp, "set" + suffix, setDesc, 2 + pt.slots);
+            if (type == pt.type && isFinal == false) {
+                if (isStatic == false) {
+                    setX.op(0x2B).op(0xC0).u2(hostClass);
+                }
+                setX.op(pt.loadOp);
+                setX.op(isStatic ? 0xB3 : 0xB5).u2(fieldRef);
+                setX.op(0xB1);
+                setX.handler();
+            }
+            setX.op(0x2A).op(0xB4).u2(fallbackRef).op(0x2B).op(pt.loadOp);
+            setX.op(0xB9).u2(cp.interfaceMethodref(ACCESSOR_NAME, "set" + suffix, setDesc)).op(2 + pt.slots).op(0);
+            setX.op(0xB1);
+            methods.add(setX);
+        }
+
+        return ClassGenerator.toBytes(cp, className, ACCESSOR_NAME, "fallback", ACCESSOR_DESC, methods);
+    }
+
+    private static final Primitive[] PRIMITIVES = {
+            new Primitive(int.class, "I", 0x1C, 0xAC, 1),
+            new Primitive(long.class, "J", 0x20, 0xAD, 2),
+            new Primitive(double.class, "D", 0x28, 0xAF, 2),
+            new Primitive(boolean.class, "Z", 0x1C, 0xAC, 1)};
+
+    /**
+     * 基本类型（描述符、第 2 个局部变量的加载指令、返回指令、占用槽数）
+     */
+    private static class Primitive {
+        final Class<?> type;
+        final String desc;
+        final int loadOp;
+        final int returnOp;
+        final int slots;
+
+        Primitive(Class<?> type, String desc, int loadOp, int returnOp, int slots) {
+            this.type = type;
+            this.desc = desc;
+            this.loadOp = loadOp;
+            this.returnOp = returnOp;
+            this.slots = slots;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 字段访问器（方法句柄实现；不能生成访问器类时使用，如 Java 15 以下）
+ *
+ * <p>通过 MethodLookup 获取字段的读写句柄，预先适配为 (Object)Object 与 (Object,Object)void，调用时走 invokeExact。
+ * 类型不匹配或空值时交给反射访问器处理（与 Field:get、set 的行为保持一致）</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class FieldAccessorMethodHandle implements FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    //基本类型字段的精确句柄：(Object)T 与 (Object,T)void（不装箱）
+    private final Class<?> fieldType;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+    private final FieldAccessor fallback;
+
+    FieldAccessorMethodHandle(Field field, FieldAccessor fallback) throws IllegalAccessException {
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle getter0 = toInstance(MethodLookup.unreflectGetter(field), isStatic);
+        MethodHandle setter0;
+
+        if (Modifier.isFinal(field.getModifiers())) {
+            //只读字段（交给反射访问器）
+            setter0 = null;
+        } else {
+            setter0 = toInstance(MethodLookup.unreflectSetter(field), isStatic);
+        }
+
+        this.getter = getter0.asType(GETTER_TYPE);
+        this.setter = (setter0 == null ? null : setter0.asType(SETTER_TYPE));
+        this.fieldType = field.getType();
+
+        if (fieldType.isPrimitive()) {
+            this.primitiveGetter = getter0.asType(MethodType.methodType(fieldType, Object.class));
+            this.primitiveSetter = (setter0 == null ? null : setter0.asType(MethodType.methodType(void.class, Object.class, fieldType)));
+        } else {
+            this.primitiveGetter = null;
+            this.primitiveSetter = null;
+        }
+
+        this.fallback = fallback;
+    }
+
+    /**
+     * 静态字段的句柄补上（忽略的）target 参数
+     */
+    private static MethodHandle toInstance(MethodHandle tmp, boolean isStatic) {
+        if (isStatic) {
+            return MethodHandles.dropArguments(tmp, 0, Object.class);
+        } else {
+            return tmp;
+        }
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.get(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        if (setter == null) {
+            fallback.set(target, value);
+            return;
+        }
+
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.set(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object target) {
+        if (fieldType != int.class) {
+            return fallback.getInt(target);
+        }
+
+        try {
+            return (int) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getInt(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        if (fieldType != int.class || primitiveSetter == null) {
+            fallback.setInt(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setInt(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        if (fieldType != long.class) {
+            return fallback.getLong(target);
+        }
+
+        try {
+            return (long) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getLong(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        if (fieldType != long.class || primitiveSetter == null) {
+            fallback.setLong(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setLong(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        if (fieldType != double.class) {
+            return fallback.getDouble(target);
+        }
+
+        try {
+            return (double) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getDouble(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        if (fieldType != double.class || primitiveSetter == null) {
+            fallback.setDouble(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setDouble(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        if (fieldType != boolean.class) {
+            return fallback.getBoolean(target);
+        }
+
+        try {
+            return (boolean) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getBoolean(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        if (fieldType != boolean.class || primitiveSetter == null) {
+            fallback.setBoolean(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setBoolean(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字段访问器（反射实现）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class FieldAccessorReflect implements FieldAccessor {
+    private final Field field;
+
+    FieldAccessorReflect(Field field) {
+        this.field = field;
+
+        try {
+            //只设置一次（不再每次检查）
+            field.setAccessible(true);
+        } catch (RuntimeException ignore) {
+            //不允许时，仍可访问公有字段
+        }
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public int getInt(Object target) {
+        try {
+            return field.getInt(target);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        try {
+            field.setInt(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        try {
+            return field.getLong(target);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        try {
+            field.setLong(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        try {
+            return field.getDouble(target);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        try {
+            field.setDouble(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        try {
+            return field.getBoolean(target);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        try {
+            field.setBoolean(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
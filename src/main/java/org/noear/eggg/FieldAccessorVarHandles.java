@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * VarHandle 字段访问器的加载（实现在多版本 jar 的 META-INF/versions/9 里；Java 8 下不可用）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+final class FieldAccessorVarHandles {
+    private static final Constructor<?> constructor;
+
+    static {
+        Constructor<?> tmp = null;
+
+        if (JavaUtil.JAVA_MAJOR_VERSION >= 9) {
+            try {
+                tmp = Class.forName("org.noear.eggg.FieldAccessorVarHandle")
+                        .getDeclaredConstructor(Field.class, FieldAccessor.class);
+            } catch (Throwable ignore) {
+                //不是多版本 jar（或没有 Java 9 的编译输出）
+            }
+        }
+
+        constructor = tmp;
+    }
+
+    private FieldAccessorVarHandles() {
+    }
+
+    /**
+     * 是否可用
+     */
+    static boolean isSupported() {
+        return constructor != null;
+    }
+
+    /**
+     * 创建（失败时抛出异常）
+     *
+     * @param fallback 只读字段的设置，或类型不匹配、空值时的访问器（反射）
+     */
+    static FieldAccessor create(Field field, FieldAccessor fallback) throws Throwable {
+        try {
+            return (FieldAccessor) constructor.newInstance(field, fallback);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Objects;
  * @since 1.0
  */
 public class FieldEggg implements Property {
+    private final Eggg eggg;
     private final ClassEggg ownerEggg;
 
     private final Field field;
@@ -47,6 +48,7 @@ public class FieldEggg implements Property {
         Objects.requireNonNull(ownerEggg, "ownerEggg");
         Objects.requireNonNull(field, "field");
 
+        this.eggg = eggg;
         this.ownerEggg = ownerEggg;
 
         this.field = field;
@@ -111,19 +113,29 @@ public class FieldEggg implements Property {
         return Modifier.isTransient(field.getModifiers());
     }
 
+    private FieldAccessor accessor;
+
+    /**
+     * 获取访问器（首次使用时创建）
+     */
+    public FieldAccessor getAccessor() {
+        if (accessor == null) {
+            accessor = eggg.newFieldAccessor(field);
+        }
+
+        return accessor;
+    }
+
     @Override
     public Object getValue(Object target) {
-        try {
-            if (field.isAccessible() == false) {
-                field.setAccessible(true);
-            }
-
-            return field.get(target);
-        } catch (RuntimeException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
-        }
+        return getAccessor().get(target);
+    }
+
+    /**
+     * 按访问模式获取值（如并发读取非 volatile 字段）
+     */
+    public Object getValue(Object target, FieldAccessMode mode) {
+        return getAccessor().get(target, mode);
     }
 
     public Object getValue(Object target, boolean allowGetter) {
@@ -137,17 +149,16 @@ public class FieldEggg implements Property {
     @Override
     public void setValue(Object target, Object value) {
         if (isFinal() == false) {
-            try {
-                if (field.isAccessible() == false) {
-                    field.setAccessible(true);
-                }
-
-                field.set(target, value);
-            } catch (RuntimeException ex) {
-                throw ex;
-            } catch (Exception ex) {
-                throw new RuntimeException(ex);
-            }
+            getAccessor().set(target, value);
+        }
+    }
+
+    /**
+     * 按访问模式设置值
+     */
+    public void setValue(Object target, Object value, FieldAccessMode mode) {
+        if (isFinal() == false) {
+            getAccessor().set(target, value, mode);
         }
     }
 
@@ -159,6 +170,54 @@ public class FieldEggg implements Property {
         }
     }
 
+    @Override
+    public int getInt(Object target) {
+        return getAccessor().getInt(target);
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        if (isFinal() == false) {
+            getAccessor().setInt(target, value);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        return getAccessor().getLong(target);
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        if (isFinal() == false) {
+            getAccessor().setLong(target, value);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        return getAccessor().getDouble(target);
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        if (isFinal() == false) {
+            getAccessor().setDouble(target, value);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        return getAccessor().getBoolean(target);
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        if (isFinal() == false) {
+            getAccessor().setBoolean(target, value);
+        }
+    }
+
     @Override
     public TypeEggg getTypeEggg() {
         return fieldTypeEggg;
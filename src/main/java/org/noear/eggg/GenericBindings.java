@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.*;
+
+/**
+ * 泛型绑定（按泛型变量实例定位，用它在 getTypeParameters() 里的位置取实际类型；不会混淆不同层级的同名变量）
+ *
+ * <p>同时也是只读的 Map（名字 -> 实际类型），作为 TypeEggg:getGenericInfo 的兼容视图</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public final class GenericBindings extends AbstractMap<String, Type> {
+    public static final GenericBindings EMPTY = new GenericBindings(new TypeVariable<?>[0], new Type[0]);
+
+    private final TypeVariable<?>[] variables;
+    private final Type[] arguments;
+
+    private Set<Entry<String, Type>> entrySet;
+
+    private GenericBindings(TypeVariable<?>[] variables, Type[] arguments) {
+        this.variables = variables;
+        this.arguments = arguments;
+    }
+
+    /**
+     * 创建
+     *
+     * @param rawType   原始类型
+     * @param arguments 实际类型（与 rawType.getTypeParameters() 一一对应）
+     */
+    public static GenericBindings of(Class<?> rawType, Type[] arguments) {
+        Objects.requireNonNull(rawType, "rawType");
+        Objects.requireNonNull(arguments, "arguments");
+
+        TypeVariable<?>[] variables = rawType.getTypeParameters();
+
+        if (variables.length != arguments.length) {
+            throw new IllegalArgumentException("Wrong number of type arguments: " + rawType.getName());
+        }
+
+        if (variables.length == 0) {
+            return EMPTY;
+        } else {
+            return new GenericBindings(variables, arguments.clone());
+        }
+    }
+
+    /**
+     * 获取泛型变量的实际类型（没有绑定时返回 null）
+     */
+    public Type get(TypeVariable<?> variable) {
+        int idx = indexOf(variable);
+        return idx < 0 ? null : arguments[idx];
+    }
+
+    private int indexOf(TypeVariable<?> variable) {
+        //先按实例（同一个声明的变量通常是同一个实例）
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i] == variable) {
+                return i;
+            }
+        }
+
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(variable)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Type get(Object key) {
+        if (key instanceof TypeVariable) {
+            return get((TypeVariable<?>) key);
+        }
+
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].getName().equals(key)) {
+                return arguments[i];
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return variables.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return variables.length == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Type>> entrySet() {
+        if (entrySet == null) {
+            Map<String, Type> tmp = new LinkedHashMap<>(variables.length);
+            for (int i = 0; i < variables.length; i++) {
+                tmp.put(variables[i].getName(), arguments[i]);
+            }
+
+            entrySet = Collections.unmodifiableMap(tmp).entrySet();
+        }
+
+        return entrySet;
+    }
+}
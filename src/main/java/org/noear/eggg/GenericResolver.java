@@ -26,6 +26,11 @@ import java.util.*;
  */
 public class GenericResolver {
     private static GenericResolver _default = new GenericResolver();
+    //审查栈（每个线程一个，替代每次调用新建的 HashSet）
+    private static final ThreadLocal<TypeStack> _stack = ThreadLocal.withInitial(TypeStack::new);
+
+    //类型驻留池（参数化类型、通配符类型、泛型数组类型的规范实例）
+    private final TypeInterner interner = new TypeInterner();
 
     public static GenericResolver getDefault() {
         return _default;
@@ -96,6 +101,26 @@ public class GenericResolver {
         }
     }
 
+    /**
+     * 创建类本级的泛型绑定（与 createTypeSelfGenericMap 相同，但按泛型变量实例定位）
+     *
+     * @param type 被解析的包含泛型参数的类
+     * @since 1.0.3
+     */
+    public GenericBindings createTypeSelfGenericBindings(Type type) {
+        try {
+            final ParameterizedType parameterizedType = toParameterizedType(type, null);
+
+            if (null == parameterizedType) {
+                return GenericBindings.EMPTY;
+            } else {
+                return GenericBindings.of((Class<?>) parameterizedType.getRawType(), parameterizedType.getActualTypeArguments());
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("Can't create generic info: " + type, ex);
+        }
+    }
+
     /**
      * 转换为参数化类型
      *
@@ -118,7 +143,7 @@ public class GenericResolver {
                 for (int i = 0; i < typeArgs.length; i++) {
                     Type typeArg1 = typeArgs[i];
                     if (typeArg1 instanceof TypeVariable) {
-                        typeArg1 = genericInfo.get(typeArg1.getTypeName());
+                        typeArg1 = getVariable((TypeVariable<?>) typeArg1, genericInfo);
                         if (typeArg1 != null) {
                             typeArgsChanged = true;
                             typeArgs[i] = typeArg1;
@@ -156,7 +181,73 @@ public class GenericResolver {
      *
      */
     public Type reviewType(Type type, Map<String, Type> genericInfo) {
-        return reviewType(type, genericInfo, new HashSet<>());
+        if (genericInfo == null || genericInfo.isEmpty() || type instanceof Class) {
+            return type;
+        }
+
+        TypeStack visited = _stack.get();
+        if (visited.size > 0) {
+            //嵌套调用（少见），用新栈
+            visited = new TypeStack();
+        }
+
+        Type result = reviewType(type, genericInfo, visited);
+
+        if (result != type) {
+            //新构建的类型，换成规范实例
+            result = intern(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * 驻留类型（等价的参数化类型、通配符类型、泛型数组类型共用一个规范实例；Class 与泛型变量原样返回）
+     *
+     * @param type 类型
+     * @since 1.0.3
+     */
+    public Type intern(Type type) {
+        if (type == null || type instanceof Class || type instanceof TypeVariable) {
+            return type;
+        }
+
+        //已驻留的（不用重建）
+        Type canonical = interner.get(type);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+
+            canonical = new ParameterizedTypeImpl(
+                    (Class<?>) parameterizedType.getRawType(),
+                    internTypes(parameterizedType.getActualTypeArguments()),
+                    intern(parameterizedType.getOwnerType()));
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+
+            canonical = new WildcardTypeImpl(
+                    internTypes(wildcardType.getUpperBounds()),
+                    internTypes(wildcardType.getLowerBounds()));
+        } else if (type instanceof GenericArrayType) {
+            canonical = new GenericArrayTypeImpl(intern(((GenericArrayType) type).getGenericComponentType()));
+        } else {
+            return type;
+        }
+
+        return interner.intern(canonical);
+    }
+
+    private Type[] internTypes(Type[] types) {
+        Type[] result = new Type[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            result[i] = intern(types[i]);
+        }
+
+        return result;
     }
 
     /**
@@ -164,21 +255,21 @@ public class GenericResolver {
      *
      * @param type        原始类型
      * @param genericInfo 泛型信息
-     * @param visited     已访问的类型集合，防止循环引用
+     * @param visited     正在审查的类型栈，防止循环引用
      */
-    private Type reviewType(Type type, Map<String, Type> genericInfo, Set<Type> visited) {
+    private Type reviewType(Type type, Map<String, Type> genericInfo, TypeStack visited) {
         if (genericInfo == null || genericInfo.isEmpty() || type instanceof Class) {
             return type;
         }
 
         // 防止循环引用
-        if (!visited.add(type)) {
+        if (!visited.push(type)) {
             return type;
         }
 
         try {
             if (type instanceof TypeVariable) {
-                Type resolved = genericInfo.get(type.getTypeName());
+                Type resolved = getVariable((TypeVariable<?>) type, genericInfo);
                 return resolved != null ? reviewType(resolved, genericInfo, visited) : type;
 
             } else if (type instanceof WildcardType) {
@@ -193,11 +284,11 @@ public class GenericResolver {
 
             return type;
         } finally {
-            visited.remove(type);
+            visited.pop();
         }
     }
 
-    private Type reviewWildcardType(WildcardType wildcardType, Map<String, Type> genericInfo, Set<Type> visited) {
+    private Type reviewWildcardType(WildcardType wildcardType, Map<String, Type> genericInfo, TypeStack visited) {
         Type[] upperBounds = reviewTypes(wildcardType.getUpperBounds(), genericInfo, visited);
         Type[] lowerBounds = reviewTypes(wildcardType.getLowerBounds(), genericInfo, visited);
 
@@ -210,7 +301,7 @@ public class GenericResolver {
         return new WildcardTypeImpl(upperBounds, lowerBounds);
     }
 
-    private Type reviewParameterizedType(ParameterizedType parameterizedType, Map<String, Type> genericInfo, Set<Type> visited) {
+    private Type reviewParameterizedType(ParameterizedType parameterizedType, Map<String, Type> genericInfo, TypeStack visited) {
         Type[] typeArgs = reviewTypes(parameterizedType.getActualTypeArguments(), genericInfo, visited);
 
         // 如果类型参数没有变化，返回原类型
@@ -225,7 +316,7 @@ public class GenericResolver {
         );
     }
 
-    private Type reviewGenericArrayType(GenericArrayType genericArrayType, Map<String, Type> genericInfo, Set<Type> visited) {
+    private Type reviewGenericArrayType(GenericArrayType genericArrayType, Map<String, Type> genericInfo, TypeStack visited) {
         Type componentType = reviewType(genericArrayType.getGenericComponentType(), genericInfo, visited);
 
         if (componentType == genericArrayType.getGenericComponentType()) {
@@ -235,7 +326,7 @@ public class GenericResolver {
         return new GenericArrayTypeImpl(componentType);
     }
 
-    private Type[] reviewTypes(Type[] types, Map<String, Type> genericInfo, Set<Type> visited) {
+    private Type[] reviewTypes(Type[] types, Map<String, Type> genericInfo, TypeStack visited) {
         Type[] result = new Type[types.length];
         boolean changed = false;
 
@@ -249,6 +340,47 @@ public class GenericResolver {
         return changed ? result : types;
     }
 
+    /**
+     * 获取泛型变量的实际类型（泛型绑定按变量实例，其它按名字）
+     */
+    private static Type getVariable(TypeVariable<?> variable, Map<String, Type> genericInfo) {
+        if (genericInfo instanceof GenericBindings) {
+            return ((GenericBindings) genericInfo).get(variable);
+        } else {
+            return genericInfo.get(variable.getTypeName());
+        }
+    }
+
+    /**
+     * 类型栈（深度一般很浅，线性查找即可）
+     */
+    private static class TypeStack {
+        private Type[] items = new Type[16];
+        private int size;
+
+        /**
+         * 入栈（已在栈中时返回 false）
+         */
+        boolean push(Type type) {
+            for (int i = 0; i < size; i++) {
+                if (items[i].equals(type)) {
+                    return false;
+                }
+            }
+
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+
+            items[size++] = type;
+            return true;
+        }
+
+        void pop() {
+            items[--size] = null;
+        }
+    }
+
 
     /**
      * @author noear
@@ -256,9 +388,12 @@ public class GenericResolver {
      */
     public static class GenericArrayTypeImpl implements GenericArrayType {
         private final Type genericComponentType;
+        private final int hash;
 
         public GenericArrayTypeImpl(Type genericComponentType) {
             this.genericComponentType = Objects.requireNonNull(genericComponentType, "genericComponentType");
+            //与 JDK 的实现一致（等价的类型不管是谁实现的，哈希都相同）
+            this.hash = genericComponentType.hashCode();
         }
 
         @Override
@@ -271,13 +406,17 @@ public class GenericResolver {
             if (this == o) return true;
             if (!(o instanceof GenericArrayType)) return false;
 
+            if (o instanceof GenericArrayTypeImpl && hash != ((GenericArrayTypeImpl) o).hash) {
+                return false;
+            }
+
             GenericArrayType that = (GenericArrayType) o;
             return Objects.equals(genericComponentType, that.getGenericComponentType());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(genericComponentType);
+            return hash;
         }
 
         @Override
@@ -287,16 +426,24 @@ public class GenericResolver {
     }
 
     public static class WildcardTypeImpl implements WildcardType {
-        private Type[] upperBounds;
-        private Type[] lowerBounds;
+        private static final Type[] EMPTY_BOUNDS = new Type[0];
 
-        public WildcardTypeImpl(Type[] upperBounds, Type[] lowerBounds) {
-            this.upperBounds = upperBounds != null ? upperBounds : new Type[0];
-            this.lowerBounds = lowerBounds != null ? lowerBounds : new Type[0];
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+        private final int hash;
 
-            // 规范化边界
-            if (this.upperBounds.length == 0) {
+        public WildcardTypeImpl(Type[] upperBounds, Type[] lowerBounds) {
+            // 规范化边界（拷贝，保证不可变）
+            if (upperBounds == null || upperBounds.length == 0) {
                 this.upperBounds = new Type[]{Object.class};
+            } else {
+                this.upperBounds = upperBounds.clone();
+            }
+
+            if (lowerBounds == null || lowerBounds.length == 0) {
+                this.lowerBounds = EMPTY_BOUNDS;
+            } else {
+                this.lowerBounds = lowerBounds.clone();
             }
 
             // 根据 Java 语言规范，上下界不能同时存在
@@ -304,6 +451,9 @@ public class GenericResolver {
                     !(this.upperBounds.length > 0 && this.upperBounds[0] == Object.class)) {
                 throw new IllegalArgumentException("Wildcard cannot have both lower and upper bounds");
             }
+
+            //与 JDK 的实现一致（等价的类型不管是谁实现的，哈希都相同）
+            this.hash = Arrays.hashCode(this.upperBounds) ^ Arrays.hashCode(this.lowerBounds);
         }
 
         @Override
@@ -313,7 +463,21 @@ public class GenericResolver {
 
         @Override
         public Type[] getLowerBounds() {
-            return lowerBounds.clone(); // 防御性拷贝
+            return lowerBounds.length == 0 ? lowerBounds : lowerBounds.clone(); // 防御性拷贝
+        }
+
+        /**
+         * 内部使用（不拷贝，不能修改）
+         */
+        Type[] upperBoundsNoCopy() {
+            return upperBounds;
+        }
+
+        /**
+         * 内部使用（不拷贝，不能修改）
+         */
+        Type[] lowerBoundsNoCopy() {
+            return lowerBounds;
         }
 
         @Override
@@ -321,16 +485,22 @@ public class GenericResolver {
             if (this == o) return true;
             if (!(o instanceof WildcardType)) return false;
 
+            if (o instanceof WildcardTypeImpl) {
+                //同类实现，直接比较（不拷贝）
+                WildcardTypeImpl that = (WildcardTypeImpl) o;
+                return hash == that.hash &&
+                        Arrays.equals(upperBounds, that.upperBounds) &&
+                        Arrays.equals(lowerBounds, that.lowerBounds);
+            }
+
             WildcardType that = (WildcardType) o;
-            return Arrays.equals(getUpperBounds(), that.getUpperBounds()) &&
-                    Arrays.equals(getLowerBounds(), that.getLowerBounds());
+            return Arrays.equals(upperBounds, that.getUpperBounds()) &&
+                    Arrays.equals(lowerBounds, that.getLowerBounds());
         }
 
         @Override
         public int hashCode() {
-            int result = Arrays.hashCode(upperBounds);
-            result = 31 * result + Arrays.hashCode(lowerBounds);
-            return result;
+            return hash;
         }
 
         @Override
@@ -389,6 +559,7 @@ public class GenericResolver {
         private final Class<?> rawType;
         private final Type[] actualTypeArguments;
         private final Type ownerType;
+        private final int hash;
 
         public ParameterizedTypeImpl(Class<?> rawType, Type[] actualTypeArguments) {
             this(rawType, actualTypeArguments, null);
@@ -396,7 +567,7 @@ public class GenericResolver {
 
         public ParameterizedTypeImpl(Class<?> rawType, Type[] actualTypeArguments, Type ownerType) {
             this.rawType = Objects.requireNonNull(rawType, "rawType");
-            this.actualTypeArguments = actualTypeArguments != null ? actualTypeArguments : new Type[0];
+            this.actualTypeArguments = actualTypeArguments != null ? actualTypeArguments.clone() : new Type[0]; //拷贝，保证不可变
             this.ownerType = ownerType;
 
             // 验证类型参数数量匹配
@@ -404,10 +575,20 @@ public class GenericResolver {
             if (typeParameters.length != this.actualTypeArguments.length) {
                 throw new IllegalArgumentException("Argument length mismatch");
             }
+
+            //与 JDK 的实现一致（等价的类型不管是谁实现的，哈希都相同）
+            this.hash = Arrays.hashCode(this.actualTypeArguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
         }
 
         @Override
         public Type[] getActualTypeArguments() {
+            return actualTypeArguments.clone(); // 防御性拷贝
+        }
+
+        /**
+         * 内部使用（不拷贝，不能修改）
+         */
+        Type[] actualTypeArgumentsNoCopy() {
             return actualTypeArguments;
         }
 
@@ -426,6 +607,15 @@ public class GenericResolver {
             if (this == o) return true;
             if (!(o instanceof ParameterizedType)) return false;
 
+            if (o instanceof ParameterizedTypeImpl) {
+                //同类实现，直接比较（不拷贝）
+                ParameterizedTypeImpl that = (ParameterizedTypeImpl) o;
+                return hash == that.hash &&
+                        rawType == that.rawType &&
+                        Arrays.equals(actualTypeArguments, that.actualTypeArguments) &&
+                        Objects.equals(ownerType, that.ownerType);
+            }
+
             ParameterizedType that = (ParameterizedType) o;
             return Objects.equals(rawType, that.getRawType()) &&
                     Arrays.equals(actualTypeArguments, that.getActualTypeArguments()) &&
@@ -434,10 +624,7 @@ public class GenericResolver {
 
         @Override
         public int hashCode() {
-            int result = Objects.hashCode(rawType);
-            result = 31 * result + Arrays.hashCode(actualTypeArguments);
-            result = 31 * result + Objects.hashCode(ownerType);
-            return result;
+            return hash;
         }
 
         @Override
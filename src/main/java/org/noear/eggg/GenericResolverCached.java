@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 带缓存的泛型分析器（按 类型 + 泛型信息实例 缓存审查结果；同一个类的兄弟成员共用）
+ *
+ * <pre>{@code
+ * new Eggg().withGenericResolver(new GenericResolverCached());
+ * }</pre>
+ *
+ * <p>注意：泛型信息按实例（弱引用）缓存，传入后不要再修改（TypeEggg:getGenericInfo 是不可变的）</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public class GenericResolverCached extends GenericResolver {
+    private final Map<BindingKey, Map<Type, Type>> cached = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Map<String, Type>> queue = new ReferenceQueue<>();
+
+    @Override
+    public Type reviewType(Type type, Map<String, Type> genericInfo) {
+        if (genericInfo == null || genericInfo.isEmpty() || type instanceof Class) {
+            return type;
+        }
+
+        Map<Type, Type> reviewed = cached.get(new BindingKey(genericInfo, null));
+
+        if (reviewed == null) {
+            expungeStaleEntries();
+
+            reviewed = cached.computeIfAbsent(new BindingKey(genericInfo, queue), k -> new ConcurrentHashMap<>());
+        }
+
+        Type resolved = reviewed.get(type);
+
+        if (resolved == null) {
+            resolved = super.reviewType(type, genericInfo);
+            reviewed.putIfAbsent(type, resolved);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * 已缓存的泛型信息数量
+     */
+    public int size() {
+        expungeStaleEntries();
+        return cached.size();
+    }
+
+    /**
+     * 清空
+     */
+    public void clear() {
+        cached.clear();
+        expungeStaleEntries();
+    }
+
+    /**
+     * 清理已被回收的泛型信息
+     */
+    private void expungeStaleEntries() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            cached.remove(ref);
+        }
+    }
+
+    /**
+     * 泛型信息键（弱引用，按实例比较）
+     */
+    private static class BindingKey extends WeakReference<Map<String, Type>> {
+        private final int hash;
+
+        BindingKey(Map<String, Type> genericInfo, ReferenceQueue<Map<String, Type>> queue) {
+            super(genericInfo, queue);
+            this.hash = System.identityHashCode(genericInfo);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o instanceof BindingKey) {
+                Map<String, Type> tmp = get();
+                return tmp != null && tmp == ((BindingKey) o).get();
+            }
+
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 实例分配器（不执行构造函数，只分配内存；sun.misc.Unsafe:allocateInstance，通过反射获取）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+final class InstanceAllocator {
+    //(Class)Object，已绑定 Unsafe 实例
+    private static final MethodHandle allocateInstance;
+
+    static {
+        MethodHandle tmp = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            tmp = MethodHandles.lookup()
+                    .unreflect(unsafeClass.getMethod("allocateInstance", Class.class))
+                    .bindTo(theUnsafe.get(null))
+                    .asType(MethodType.methodType(Object.class, Class.class));
+        } catch (Throwable ignore) {
+            //不支持
+        }
+
+        allocateInstance = tmp;
+    }
+
+    private InstanceAllocator() {
+    }
+
+    /**
+     * 是否可分配（接口、抽象类、数组、基本类型、枚举不支持）
+     */
+    static boolean isSupported(Class<?> type) {
+        if (allocateInstance == null) {
+            return false;
+        }
+
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum()) {
+            return false;
+        }
+
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+
+        return type != Class.class;
+    }
+
+    /**
+     * 分配实例（字段都是默认值）
+     */
+    static Object allocate(Class<?> type) throws Throwable {
+        return (Object) allocateInstance.invokeExact(type);
+    }
+}
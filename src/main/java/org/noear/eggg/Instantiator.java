@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * 实例化器（每个构造函数或静态工厂方法一个；参数个数由 ConstrEggg 检查）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public interface Instantiator {
+    /**
+     * 实例化（参数按数组传）
+     */
+    Object newInstance(Object[] args) throws Throwable;
+
+    /**
+     * 实例化（无参数；实现时不分配参数数组）
+     */
+    default Object newInstance0() throws Throwable {
+        return newInstance(new Object[0]);
+    }
+
+    /**
+     * 实例化（1 个参数；实现时不分配参数数组）
+     */
+    default Object newInstance1(Object a) throws Throwable {
+        return newInstance(new Object[]{a});
+    }
+
+    /**
+     * 实例化（2 个参数；实现时不分配参数数组）
+     */
+    default Object newInstance2(Object a, Object b) throws Throwable {
+        return newInstance(new Object[]{a, b});
+    }
+
+    /**
+     * 实例化（3 个参数；实现时不分配参数数组）
+     */
+    default Object newInstance3(Object a, Object b, Object c) throws Throwable {
+        return newInstance(new Object[]{a, b, c});
+    }
+
+    /**
+     * 实例化（4 个参数；实现时不分配参数数组）
+     */
+    default Object newInstance4(Object a, Object b, Object c, Object d) throws Throwable {
+        return newInstance(new Object[]{a, b, c, d});
+    }
+
+    /**
+     * 实例化（5 个参数；实现时不分配参数数组）
+     */
+    default Object newInstance5(Object a, Object b, Object c, Object d, Object e) throws Throwable {
+        return newInstance(new Object[]{a, b, c, d, e});
+    }
+}
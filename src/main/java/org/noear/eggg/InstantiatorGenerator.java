@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import org.noear.eggg.ClassGenerator.Code;
+import org.noear.eggg.ClassGenerator.ConstantPool;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.noear.eggg.ClassGenerator.*;
+
+/**
+ * 实例化器生成器（为每个构造函数或静态工厂方法生成一个直接 new、invokestatic 的实例化器类，可被 JIT 内联）
+ *
+ * <p>Java 15+ 才生成（见 ClassGenerator），更低的版本由 ConstrEggg 走反射。生成的类没有异常处理：参数由 ConstrEggg 预先检查，不匹配时直接走反射</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class InstantiatorGenerator {
+    private static final String INSTANTIATOR_NAME = "org/noear/eggg/Instantiator";
+    private static final String OBJECT_DESC = "Ljava/lang/Object;";
+    //参数个数上限（bipush 的范围内）
+    private static final int MAX_PARAMS = 64;
+    //固定参数的实例化方法上限（与 Instantiator 一致）
+    private static final int MAX_ARITY = 5;
+
+    /**
+     * 是否可生成
+     */
+    static boolean isSupported(Executable executable) {
+        Class<?> host = executable.getDeclaringClass();
+
+        if (executable instanceof Constructor) {
+            //抽象类与枚举不能通过构造函数创建（交给反射报错）
+            if (Modifier.isAbstract(host.getModifiers()) || host.isEnum()) {
+                return false;
+            }
+        } else {
+            Method method = (Method) executable;
+            if (Modifier.isStatic(method.getModifiers()) == false || method.getReturnType().isPrimitive()) {
+                return false;
+            }
+        }
+
+        if (executable.getParameterCount() > MAX_PARAMS) {
+            return false;
+        }
+
+        if (ClassGenerator.isSupported(host, Instantiator.class) == false) {
+            return false;
+        }
+
+        //参数要 checkcast 到参数类型，它要能被宿主访问
+        for (Class<?> type : executable.getParameterTypes()) {
+            if (isAccessible(type, host) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 生成（失败时抛出异常）
+     */
+    static Instantiator generate(Executable executable) throws Throwable {
+        Class<?> host = executable.getDeclaringClass();
+        String className = newClassName(host, "$$EgggInstantiator");
+
+        Class<?> clazz = define(host, toBytes(className, executable));
+
+        return (Instantiator) clazz.getDeclaredConstructor().newInstance();
+    }
+
+    static byte[] toBytes(String className, Executable executable) throws IOException {
+        Class<?>[] types = executable.getParameterTypes();
+        boolean isConstr = (executable instanceof Constructor);
+
+        String hostName = internalName(executable.getDeclaringClass());
+
+        StringBuilder desc = new StringBuilder().append('(');
+        int argSlots = 0;
+        for (Class<?> type : types) {
+            desc.append(descOf(type));
+            argSlots += (type == long.class || type == double.class ? 2 : 1);
+        }
+        desc.append(')');
+
+        ConstantPool cp = new ConstantPool();
+        int hostClass = cp.clazz(hostName);
+        int targetRef;
+        if (isConstr) {
+            targetRef = cp.methodref(hostName, "<init>", desc.append('V').toString());
+        } else {
+            Method method = (Method) executable;
+            targetRef = cp.methodref(hostName, method.getName(), desc.append(descOf(method.getReturnType())).toString());
+        }
+
+        List<Code> methods = new ArrayList<>();
+
+        //<init>()
+        Code init = new Code(cp, "<init>", "()V", 1);
+        init.op(0x2A).op(0xB7).u2(cp.methodref(OBJECT_NAME, "<init>", "()V"));
+        init.op(0xB1);
+        methods.add(init);
+
+        //newInstance(Object[])
+        Code spread = new Code(cp, "newInstance", "([Ljava/lang/Object;)Ljava/lang/Object;", 2).maxStack(2 + argSlots + 2);
+        if (isConstr) {
+            spread.op(0xBB).u2(hostClass).op(0x59); //new, dup
+        }
+        for (int i = 0; i < types.length; i++) {
+            spread.op(0x2B); //aload_1
+            if (i <= 5) {
+                spread.op(0x03 + i); //iconst_i
+            } else {
+                spread.op(0x10).op(i); //bipush
+            }
+            spread.op(0x32); //aaload
+            unbox(cp, spread, types[i]);
+        }
+        spread.op(isConstr ? 0xB7 : 0xB8).u2(targetRef);
+        spread.op(0xB0);
+        methods.add(spread);
+
+        //newInstanceN(Object...)
+        if (types.length <= MAX_ARITY) {
+            StringBuilder fixedDesc = new StringBuilder().append('(');
+            for (int i = 0; i < types.length; i++) {
+                fixedDesc.append(OBJECT_DESC);
+            }
+            fixedDesc.append(')').append(OBJECT_DESC);
+
+            Code fixed = new Code(cp, "newInstance" + types.length, fixedDesc.toString(), 1 + types.length).maxStack(2 + argSlots + 1);
+            if (isConstr) {
+                fixed.op(0xBB).u2(hostClass).op(0x59);
+            }
+            for (int i = 0; i < types.length; i++) {
+                if (i < 3) {
+                    fixed.op(0x2B + i); //aload_1 ~ aload_3
+                } else {
+                    fixed.op(0x19).op(i + 1); //aload
+                }
+                unbox(cp, fixed, types[i]);
+            }
+            fixed.op(isConstr ? 0xB7 : 0xB8).u2(targetRef);
+            fixed.op(0xB0);
+            methods.add(fixed);
+        }
+
+        return ClassGenerator.toBytes(cp, className, INSTANTIATOR_NAME, null, null, methods);
+    }
+
+    /**
+     * 把栈顶的 Object 转为参数类型（基本类型拆箱）
+     */
+    private static void unbox(ConstantPool cp, Code code, Class<?> type) throws IOException {
+        if (type.isPrimitive()) {
+            Class<?> box = boxOf(type);
+            code.op(0xC0).u2(cp.clazz(internalName(box)));
+            code.op(0xB6).u2(cp.methodref(internalName(box), type.getName() + "Value", "()" + descOf(type)));
+        } else if (type != Object.class) {
+            code.op(0xC0).u2(cp.clazz(internalName(type)));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * 分析范围（决定 ClassEggg 构建多少元数据）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+public enum IntrospectionProfile {
+    /**
+     * 全部（字段、属性、方法、构造器）
+     */
+    FULL,
+    /**
+     * 只有属性（字段、属性方法与创造器；不构建其它方法与构造器）
+     */
+    PROPERTIES_ONLY,
+    /**
+     * 只有字段（字段、基于字段的属性与创造器；不获取公有方法）
+     */
+    FIELDS_ONLY,
+}
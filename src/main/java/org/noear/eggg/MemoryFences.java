@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * 内存屏障（Java 8 用 Unsafe；没有时用 VarHandle 的静态屏障；都没有时用空的同步块）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+final class MemoryFences {
+    private static final MethodHandle ACQUIRE;
+    private static final MethodHandle RELEASE;
+    private static final MethodHandle FULL;
+
+    static {
+        MethodHandle acquire = null;
+        MethodHandle release = null;
+        MethodHandle full = null;
+        MethodType voidType = MethodType.methodType(void.class);
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            acquire = lookup.findVirtual(unsafeClass, "loadFence", voidType).bindTo(unsafe);
+            release = lookup.findVirtual(unsafeClass, "storeFence", voidType).bindTo(unsafe);
+            full = lookup.findVirtual(unsafeClass, "fullFence", voidType).bindTo(unsafe);
+        } catch (Throwable ignore) {
+            try {
+                Class<?> varHandleClass = Class.forName("java.lang.invoke.VarHandle");
+
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                acquire = lookup.findStatic(varHandleClass, "acquireFence", voidType);
+                release = lookup.findStatic(varHandleClass, "releaseFence", voidType);
+                full = lookup.findStatic(varHandleClass, "fullFence", voidType);
+            } catch (Throwable ignore2) {
+                acquire = null;
+                release = null;
+                full = null;
+            }
+        }
+
+        ACQUIRE = acquire;
+        RELEASE = release;
+        FULL = full;
+    }
+
+    private MemoryFences() {
+    }
+
+    /**
+     * 获取屏障（之前的读，不会与之后的读写重排）
+     */
+    static void acquire() {
+        fence(ACQUIRE);
+    }
+
+    /**
+     * 释放屏障（之前的读写，不会与之后的写重排）
+     */
+    static void release() {
+        fence(RELEASE);
+    }
+
+    /**
+     * 全屏障
+     */
+    static void full() {
+        fence(FULL);
+    }
+
+    private static void fence(MethodHandle fence) {
+        if (fence == null) {
+            synchronized (MemoryFences.class) {
+                //进出监视器（相当于全屏障）
+            }
+        } else {
+            try {
+                fence.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -16,8 +16,6 @@
 package org.noear.eggg;
 
 import java.lang.annotation.Annotation;
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -31,7 +29,9 @@ public class MethodEggg implements AnnotatedEggg {
     private final ClassEggg ownerEggg;
 
     private final Method method;
-    private MethodHandle methodHandle;
+    //调用器（首次调用时创建；不可用时为 null，走反射）
+    private volatile MethodInvoker invoker;
+    private volatile boolean invokerResolved;
 
     private final TypeEggg returnTypeEggg;
 
@@ -48,14 +48,6 @@ public class MethodEggg implements AnnotatedEggg {
         this.ownerEggg = ownerEggg;
         this.method = method;
 
-        try {
-            if (isPublic()) {
-                this.methodHandle = MethodHandles.lookup().unreflect(method);
-            }
-        } catch (Throwable e) {
-            this.methodHandle = null;
-        }
-
         if (method.getReturnType() != void.class) {
             this.returnTypeEggg = eggg.getTypeEggg(eggg.reviewType(method.getGenericReturnType(), eggg.findGenericInfo(ownerEggg.getTypeEggg(), method.getDeclaringClass())));
         } else {
@@ -176,21 +168,124 @@ public class MethodEggg implements AnnotatedEggg {
     }
 
 
+    /**
+     * 获取调用器（非公有的方法也有；不可用时为 null）
+     */
+    MethodInvoker getInvoker() {
+        if (invokerResolved == false) {
+            try {
+                invoker = new MethodInvoker(MethodLookup.unreflect(method), isStatic());
+            } catch (Throwable e) {
+                invoker = null;
+            }
+
+            invokerResolved = true;
+        }
+
+        return invoker;
+    }
+
+    /**
+     * 反射调用（没有调用器时；方法内的异常原样抛出，与句柄调用一致）
+     */
+    <T> T invokeReflect(Object target, Object[] args) throws Throwable {
+        if (method.isAccessible() == false) {
+            method.setAccessible(true);
+        }
+
+        try {
+            return (T) method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
     public <T> T invoke(Object target, Object... args)
             throws Throwable {
+        MethodInvoker tmp = getInvoker();
 
-        if (methodHandle == null) {
-            if (method.isAccessible() == false) {
-                method.setAccessible(true);
-            }
+        if (tmp == null) {
+            return invokeReflect(target, args);
+        } else {
+            return (T) tmp.invoke(target, args);
+        }
+    }
 
-            return (T) method.invoke(target, args);
+    /**
+     * 调用（无参数；不分配参数数组）
+     */
+    public <T> T invoke0(Object target) throws Throwable {
+        MethodInvoker tmp = getInvoker();
+
+        if (tmp == null) {
+            return invokeReflect(target, new Object[0]);
         } else {
-            if (target == null && isStatic()) {
-                return (T) methodHandle.invokeWithArguments(args);
-            } else {
-                return (T) methodHandle.bindTo(target).invokeWithArguments(args);
-            }
+            return (T) tmp.invoke0(target);
+        }
+    }
+
+    /**
+     * 调用（1 个参数；不分配参数数组）
+     */
+    public <T> T invoke1(Object target, Object a) throws Throwable {
+        MethodInvoker tmp = getInvoker();
+
+        if (tmp == null) {
+            return invokeReflect(target, new Object[]{a});
+        } else {
+            return (T) tmp.invoke1(target, a);
+        }
+    }
+
+    /**
+     * 调用（2 个参数；不分配参数数组）
+     */
+    public <T> T invoke2(Object target, Object a, Object b) throws Throwable {
+        MethodInvoker tmp = getInvoker();
+
+        if (tmp == null) {
+            return invokeReflect(target, new Object[]{a, b});
+        } else {
+            return (T) tmp.invoke2(target, a, b);
+        }
+    }
+
+    /**
+     * 调用（3 个参数；不分配参数数组）
+     */
+    public <T> T invoke3(Object target, Object a, Object b, Object c) throws Throwable {
+        MethodInvoker tmp = getInvoker();
+
+        if (tmp == null) {
+            return invokeReflect(target, new Object[]{a, b, c});
+        } else {
+            return (T) tmp.invoke3(target, a, b, c);
+        }
+    }
+
+    /**
+     * 调用（4 个参数；不分配参数数组）
+     */
+    public <T> T invoke4(Object target, Object a, Object b, Object c, Object d) throws Throwable {
+        MethodInvoker tmp = getInvoker();
+
+        if (tmp == null) {
+            return invokeReflect(target, new Object[]{a, b, c, d});
+        } else {
+            return (T) tmp.invoke4(target, a, b, c, d);
+        }
+    }
+
+    /**
+     * 调用（5 个参数；不分配参数数组）
+     */
+    public <T> T invoke5(Object target, Object a, Object b, Object c, Object d, Object e) throws Throwable {
+        MethodInvoker tmp = getInvoker();
+
+        if (tmp == null) {
+            return invokeReflect(target, new Object[]{a, b, c, d, e});
+        } else {
+            return (T) tmp.invoke5(target, a, b, c, d, e);
         }
     }
 
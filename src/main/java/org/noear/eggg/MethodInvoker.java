@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 方法调用器（句柄预先适配为通用类型，调用时走 invokeExact；不需要 bindTo 与 invokeWithArguments）
+ *
+ * <p>spreader 为 (Object,Object[])Object；参数不超过 MAX_ARITY 个时，另有固定参数的 (Object,Object...)Object，调用时不分配数组</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+final class MethodInvoker {
+    /**
+     * 固定参数调用的最大参数数
+     */
+    static final int MAX_ARITY = 5;
+
+    private final int paramCount;
+    private final MethodHandle spreader;
+    private final MethodHandle exact;
+
+    /**
+     * @param handle   方法句柄（实例方法的第一个参数为目标对象）
+     * @param isStatic 是否为静态方法（忽略目标对象）
+     */
+    MethodInvoker(MethodHandle handle, boolean isStatic) {
+        //可变参数按数组传（与 Method:invoke 一致）
+        MethodHandle tmp = handle.asFixedArity();
+
+        if (isStatic) {
+            tmp = MethodHandles.dropArguments(tmp, 0, Object.class);
+        }
+
+        this.paramCount = tmp.type().parameterCount() - 1;
+
+        MethodHandle generic = tmp.asType(MethodType.genericMethodType(paramCount + 1));
+
+        this.spreader = generic.asSpreader(Object[].class, paramCount);
+        this.exact = (paramCount <= MAX_ARITY ? generic : null);
+    }
+
+    Object invoke(Object target, Object[] args) throws Throwable {
+        return (Object) spreader.invokeExact(target, args);
+    }
+
+    Object invoke0(Object target) throws Throwable {
+        if (paramCount == 0) {
+            return (Object) exact.invokeExact(target);
+        } else {
+            return invoke(target, new Object[0]);
+        }
+    }
+
+    Object invoke1(Object target, Object a) throws Throwable {
+        if (paramCount == 1) {
+            return (Object) exact.invokeExact(target, a);
+        } else {
+            return invoke(target, new Object[]{a});
+        }
+    }
+
+    Object invoke2(Object target, Object a, Object b) throws Throwable {
+        if (paramCount == 2) {
+            return (Object) exact.invokeExact(target, a, b);
+        } else {
+            return invoke(target, new Object[]{a, b});
+        }
+    }
+
+    Object invoke3(Object target, Object a, Object b, Object c) throws Throwable {
+        if (paramCount == 3) {
+            return (Object) exact.invokeExact(target, a, b, c);
+        } else {
+            return invoke(target, new Object[]{a, b, c});
+        }
+    }
+
+    Object invoke4(Object target, Object a, Object b, Object c, Object d) throws Throwable {
+        if (paramCount == 4) {
+            return (Object) exact.invokeExact(target, a, b, c, d);
+        } else {
+            return invoke(target, new Object[]{a, b, c, d});
+        }
+    }
+
+    Object invoke5(Object target, Object a, Object b, Object c, Object d, Object e) throws Throwable {
+        if (paramCount == 5) {
+            return (Object) exact.invokeExact(target, a, b, c, d, e);
+        } else {
+            return invoke(target, new Object[]{a, b, c, d, e});
+        }
+    }
+}
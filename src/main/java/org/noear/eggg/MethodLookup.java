@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * 方法句柄查找（非公有的成员也能拿到句柄，调用时不再有访问检查）
+ *
+ * <p>Java 9+ 用 MethodHandles:privateLookupIn（遵守模块的开放规则）；Java 8 默认为 setAccessible 之后再 unreflect，
+ * 受信任的查找（Lookup.IMPL_LOOKUP）要通过 -Deggg.trustedLookup=true 启用</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+final class MethodLookup {
+    static final String TRUSTED_LOOKUP_PROPERTY = "eggg.trustedLookup";
+
+    //Java 9+
+    private static Method privateLookupIn;
+    //Java 8（需启用）
+    private static MethodHandles.Lookup trustedLookup;
+
+    static {
+        try {
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (Throwable ignore) {
+            //Java 8
+        }
+
+        if (privateLookupIn == null && Boolean.getBoolean(TRUSTED_LOOKUP_PROPERTY)) {
+            try {
+                Field implLookup = MethodHandles.Lookup.class.getDeclaredField("IMPL_LOOKUP");
+                implLookup.setAccessible(true);
+                trustedLookup = (MethodHandles.Lookup) implLookup.get(null);
+            } catch (Throwable ignore) {
+                //不支持
+            }
+        }
+    }
+
+    private MethodLookup() {
+    }
+
+    /**
+     * 获取可以访问类的私有成员的查找（不可用时为 null）
+     */
+    static MethodHandles.Lookup privateLookupIn(Class<?> type) {
+        try {
+            if (privateLookupIn != null) {
+                return (MethodHandles.Lookup) privateLookupIn.invoke(null, type, MethodHandles.lookup());
+            } else if (trustedLookup != null) {
+                return trustedLookup.in(type);
+            }
+        } catch (Throwable ignore) {
+            //没有开放给当前模块
+        }
+
+        return null;
+    }
+
+    /**
+     * 获取方法的句柄
+     */
+    static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = privateLookupIn(method.getDeclaringClass());
+
+        if (lookup != null) {
+            try {
+                return lookup.unreflect(method);
+            } catch (IllegalAccessException ignore) {
+                //再试 setAccessible
+            }
+        }
+
+        return unreflectAccessible(method);
+    }
+
+    /**
+     * 获取字段的读取句柄
+     */
+    static MethodHandle unreflectGetter(Field field) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = privateLookupIn(field.getDeclaringClass());
+
+        if (lookup != null) {
+            try {
+                return lookup.unreflectGetter(field);
+            } catch (IllegalAccessException ignore) {
+                //再试 setAccessible
+            }
+        }
+
+        if (field.isAccessible() == false) {
+            field.setAccessible(true);
+        }
+
+        return MethodHandles.lookup().unreflectGetter(field);
+    }
+
+    /**
+     * 获取字段的写入句柄（只读字段不支持）
+     */
+    static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = privateLookupIn(field.getDeclaringClass());
+
+        if (lookup != null) {
+            try {
+                return lookup.unreflectSetter(field);
+            } catch (IllegalAccessException ignore) {
+                //再试 setAccessible
+            }
+        }
+
+        if (field.isAccessible() == false) {
+            field.setAccessible(true);
+        }
+
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
+
+    /**
+     * 获取方法的句柄（setAccessible 之后再 unreflect）
+     */
+    static MethodHandle unreflectAccessible(Method method) throws IllegalAccessException {
+        if (method.isAccessible() == false) {
+            method.setAccessible(true);
+        }
+
+        return MethodHandles.lookup().unreflect(method);
+    }
+}
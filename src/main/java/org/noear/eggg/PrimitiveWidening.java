@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+/**
+ * 基本类型的宽化转换（与 Field:getInt、setInt 等一致：按声明类型转换，不能窄化，也不能拆箱）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class PrimitiveWidening {
+    /**
+     * 默认值（基本类型为 0、false；其它为 null）
+     */
+    static Object defaultOf(Class<?> type) {
+        if (type.isPrimitive() == false || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else {
+            return (char) 0;
+        }
+    }
+
+    static int getInt(Class<?> type, Object value) {
+        if (type == int.class || type == short.class || type == byte.class) {
+            return ((Number) value).intValue();
+        } else if (type == char.class) {
+            return (Character) value;
+        } else {
+            throw newError(type, "int");
+        }
+    }
+
+    static long getLong(Class<?> type, Object value) {
+        if (type == long.class || type == int.class || type == short.class || type == byte.class) {
+            return ((Number) value).longValue();
+        } else if (type == char.class) {
+            return (Character) value;
+        } else {
+            throw newError(type, "long");
+        }
+    }
+
+    static double getDouble(Class<?> type, Object value) {
+        if (type == double.class || type == float.class || type == long.class
+                || type == int.class || type == short.class || type == byte.class) {
+            return ((Number) value).doubleValue();
+        } else if (type == char.class) {
+            return (Character) value;
+        } else {
+            throw newError(type, "double");
+        }
+    }
+
+    static boolean getBoolean(Class<?> type, Object value) {
+        if (type == boolean.class) {
+            return (Boolean) value;
+        } else {
+            throw newError(type, "boolean");
+        }
+    }
+
+    static Object fromInt(Class<?> type, int value) {
+        if (type == int.class) {
+            return value;
+        } else if (type == long.class) {
+            return (long) value;
+        } else if (type == float.class) {
+            return (float) value;
+        } else if (type == double.class) {
+            return (double) value;
+        } else {
+            throw newError("int", type);
+        }
+    }
+
+    static Object fromLong(Class<?> type, long value) {
+        if (type == long.class) {
+            return value;
+        } else if (type == float.class) {
+            return (float) value;
+        } else if (type == double.class) {
+            return (double) value;
+        } else {
+            throw newError("long", type);
+        }
+    }
+
+    static Object fromDouble(Class<?> type, double value) {
+        if (type == double.class) {
+            return value;
+        } else {
+            throw newError("double", type);
+        }
+    }
+
+    static Object fromBoolean(Class<?> type, boolean value) {
+        if (type == boolean.class) {
+            return value;
+        } else {
+            throw newError("boolean", type);
+        }
+    }
+
+    private static IllegalArgumentException newError(Class<?> from, String to) {
+        return new IllegalArgumentException("Can not get " + to + " from " + from.getName());
+    }
+
+    private static IllegalArgumentException newError(String from, Class<?> to) {
+        return new IllegalArgumentException("Can not set " + to.getName() + " from " + from);
+    }
+}
@@ -48,6 +48,62 @@ public interface Property extends AnnotatedEggg {
      */
     void setValue(Object target, Object value);
 
+    /**
+     * 获取 int 值（与 Field:getInt 一致：按声明类型宽化转换；FieldEggg 等实现直接读取，不装箱）
+     */
+    default int getInt(Object target) {
+        return PrimitiveWidening.getInt(getTypeEggg().getType(), getValue(target));
+    }
+
+    /**
+     * 获取 long 值（与 Field:getLong 一致：按声明类型宽化转换；FieldEggg 等实现直接读取，不装箱）
+     */
+    default long getLong(Object target) {
+        return PrimitiveWidening.getLong(getTypeEggg().getType(), getValue(target));
+    }
+
+    /**
+     * 获取 double 值（与 Field:getDouble 一致：按声明类型宽化转换；FieldEggg 等实现直接读取，不装箱）
+     */
+    default double getDouble(Object target) {
+        return PrimitiveWidening.getDouble(getTypeEggg().getType(), getValue(target));
+    }
+
+    /**
+     * 获取 boolean 值（与 Field:getBoolean 一致：按声明类型宽化转换；FieldEggg 等实现直接读取，不装箱）
+     */
+    default boolean getBoolean(Object target) {
+        return PrimitiveWidening.getBoolean(getTypeEggg().getType(), getValue(target));
+    }
+
+    /**
+     * 设置 int 值（与 Field:setInt 一致：按声明类型宽化转换；FieldEggg 等实现直接写入，不装箱）
+     */
+    default void setInt(Object target, int value) {
+        setValue(target, PrimitiveWidening.fromInt(getTypeEggg().getType(), value));
+    }
+
+    /**
+     * 设置 long 值（与 Field:setLong 一致：按声明类型宽化转换；FieldEggg 等实现直接写入，不装箱）
+     */
+    default void setLong(Object target, long value) {
+        setValue(target, PrimitiveWidening.fromLong(getTypeEggg().getType(), value));
+    }
+
+    /**
+     * 设置 double 值（与 Field:setDouble 一致：按声明类型宽化转换；FieldEggg 等实现直接写入，不装箱）
+     */
+    default void setDouble(Object target, double value) {
+        setValue(target, PrimitiveWidening.fromDouble(getTypeEggg().getType(), value));
+    }
+
+    /**
+     * 设置 boolean 值（与 Field:setBoolean 一致：按声明类型宽化转换；FieldEggg 等实现直接写入，不装箱）
+     */
+    default void setBoolean(Object target, boolean value) {
+        setValue(target, PrimitiveWidening.fromBoolean(getTypeEggg().getType(), value));
+    }
+
     /**
      * 类型包装
      */
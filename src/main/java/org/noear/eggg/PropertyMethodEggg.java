@@ -16,8 +16,12 @@
 package org.noear.eggg;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Objects;
 
@@ -40,6 +44,10 @@ public class PropertyMethodEggg implements Property {
     private final String alias;
     private final Object digest;
 
+    //基本类型属性的精确句柄：getter 为 (Object)T，setter 为 (Object,T)void（不装箱）
+    private volatile MethodHandle primitiveHandle;
+    private volatile boolean primitiveResolved;
+
     public PropertyMethodEggg(Eggg eggg, ClassEggg ownerEggg, MethodEggg methodEggg) {
         Objects.requireNonNull(eggg, "eggg");
         Objects.requireNonNull(ownerEggg, "ownerEggg");
@@ -105,7 +113,7 @@ public class PropertyMethodEggg implements Property {
         if (isReadMode()) {
 
             try {
-                return methodEggg.invoke(target);
+                return methodEggg.invoke0(target);
             } catch (RuntimeException ex) {
                 throw ex;
             } catch (Throwable ex) {
@@ -120,7 +128,7 @@ public class PropertyMethodEggg implements Property {
     public void setValue(Object target, Object value) {
         if (isReadMode() == false) {
             try {
-                methodEggg.invoke(target, value);
+                methodEggg.invoke1(target, value);
             } catch (RuntimeException ex) {
                 throw ex;
             } catch (Throwable ex) {
@@ -129,6 +137,178 @@ public class PropertyMethodEggg implements Property {
         }
     }
 
+    /**
+     * 获取基本类型属性的精确句柄（类型不匹配或不可用时为 null）
+     */
+    private MethodHandle getPrimitiveHandle(Class<?> type, boolean readMode) {
+        if (getType() != type || isReadMode() != readMode) {
+            return null;
+        }
+
+        if (primitiveResolved == false) {
+            try {
+                Method method = methodEggg.getMethod();
+                MethodHandle tmp = MethodLookup.unreflect(method);
+
+                if (Modifier.isStatic(method.getModifiers())) {
+                    tmp = MethodHandles.dropArguments(tmp, 0, Object.class);
+                }
+
+                if (readMode) {
+                    primitiveHandle = tmp.asType(MethodType.methodType(type, Object.class));
+                } else {
+                    primitiveHandle = tmp.asType(MethodType.methodType(void.class, Object.class, type));
+                }
+            } catch (Throwable e) {
+                primitiveHandle = null;
+            }
+
+            primitiveResolved = true;
+        }
+
+        return primitiveHandle;
+    }
+
+    @Override
+    public int getInt(Object target) {
+        MethodHandle handle = getPrimitiveHandle(int.class, true);
+
+        if (handle == null) {
+            return Property.super.getInt(target);
+        }
+
+        try {
+            return (int) handle.invokeExact(target);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        MethodHandle handle = getPrimitiveHandle(int.class, false);
+
+        if (handle == null) {
+            Property.super.setInt(target, value);
+            return;
+        }
+
+        try {
+            handle.invokeExact(target, value);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        MethodHandle handle = getPrimitiveHandle(long.class, true);
+
+        if (handle == null) {
+            return Property.super.getLong(target);
+        }
+
+        try {
+            return (long) handle.invokeExact(target);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        MethodHandle handle = getPrimitiveHandle(long.class, false);
+
+        if (handle == null) {
+            Property.super.setLong(target, value);
+            return;
+        }
+
+        try {
+            handle.invokeExact(target, value);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        MethodHandle handle = getPrimitiveHandle(double.class, true);
+
+        if (handle == null) {
+            return Property.super.getDouble(target);
+        }
+
+        try {
+            return (double) handle.invokeExact(target);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        MethodHandle handle = getPrimitiveHandle(double.class, false);
+
+        if (handle == null) {
+            Property.super.setDouble(target, value);
+            return;
+        }
+
+        try {
+            handle.invokeExact(target, value);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        MethodHandle handle = getPrimitiveHandle(boolean.class, true);
+
+        if (handle == null) {
+            return Property.super.getBoolean(target);
+        }
+
+        try {
+            return (boolean) handle.invokeExact(target);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        MethodHandle handle = getPrimitiveHandle(boolean.class, false);
+
+        if (handle == null) {
+            Property.super.setBoolean(target, value);
+            return;
+        }
+
+        try {
+            handle.invokeExact(target, value);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
 
     @Override
     public TypeEggg getTypeEggg() {
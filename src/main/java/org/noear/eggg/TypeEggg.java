@@ -17,6 +17,7 @@ package org.noear.eggg;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 类型包装器
@@ -40,12 +41,12 @@ public class TypeEggg {
         this.eggg = eggg;
         this.originType = originType;
 
+        this.genericInfo = toReadonly(eggg.createGenericInfo(originType));
+
         if (originType instanceof Class<?>) {
-            this.genericInfo = Collections.unmodifiableMap(eggg.createGenericInfo(originType));
             this.genericType = originType;
             this.type = (Class<?>) originType;
         } else {
-            this.genericInfo = Collections.unmodifiableMap(eggg.createGenericInfo(originType));
             this.genericType = eggg.reviewType(originType, this.genericInfo);
 
             if (isParameterizedType()) {
@@ -66,14 +67,30 @@ public class TypeEggg {
         }
     }
 
-    private ClassEggg classEggg;
+    //按声明类缓存的泛型信息（由 Eggg:findGenericInfo 填充）
+    private volatile Map<Class<?>, Map<String, Type>> genericInfoForDeclaring;
 
-    public ClassEggg getClassEggg() {
-        if (classEggg == null) {
-            classEggg = eggg.getClassEggg(this);
+    Map<Class<?>, Map<String, Type>> getGenericInfoForDeclaring() {
+        Map<Class<?>, Map<String, Type>> tmp = genericInfoForDeclaring;
+
+        if (tmp == null) {
+            synchronized (this) {
+                tmp = genericInfoForDeclaring;
+                if (tmp == null) {
+                    tmp = new ConcurrentHashMap<>();
+                    genericInfoForDeclaring = tmp;
+                }
+            }
         }
 
-        return classEggg;
+        return tmp;
+    }
+
+    /**
+     * 获取类包装器（不在这里持有，由配置的缓存存放并淘汰）
+     */
+    public ClassEggg getClassEggg() {
+        return eggg.getClassEggg(this);
     }
 
     public ClassEggg newClassEggg() {
@@ -92,10 +109,22 @@ public class TypeEggg {
         return genericType;
     }
 
+    /**
+     * 获取泛型信息（默认为 GenericBindings，按泛型变量实例定位；作为 Map 时是 名字 -> 实际类型 的视图）
+     */
     public Map<String, Type> getGenericInfo() {
         return genericInfo;
     }
 
+    private static Map<String, Type> toReadonly(Map<String, Type> genericInfo) {
+        if (genericInfo instanceof GenericBindings) {
+            //本身只读（保留类型，审查时按变量实例定位）
+            return genericInfo;
+        } else {
+            return Collections.unmodifiableMap(genericInfo);
+        }
+    }
+
     public boolean isInterface() {
         return type.isInterface();
     }
@@ -171,6 +200,23 @@ public class TypeEggg {
         return genericType.hashCode();
     }
 
+    /**
+     * 同一个 Eggg 下，泛型类型等价即相等（作为 ClassEggg 缓存的键，避免重复条目）
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o instanceof TypeEggg) {
+            TypeEggg that = (TypeEggg) o;
+            return eggg == that.eggg && genericType.equals(that.genericType);
+        }
+
+        return false;
+    }
+
     @Override
     public String toString() {
         return genericType.toString();
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 类型驻留池（等价的类型只保留一个规范实例；弱引用，不会阻止类加载器卸载）
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class TypeInterner {
+    private final Map<TypeRef, TypeRef> data = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Type> queue = new ReferenceQueue<>();
+
+    /**
+     * 获取已驻留的规范实例（没有时返回 null）
+     */
+    Type get(Type type) {
+        TypeRef ref = data.get(new TypeRef(type, null));
+        return (ref == null ? null : ref.get());
+    }
+
+    /**
+     * 驻留（已有等价的实例时返回已有的）
+     */
+    Type intern(Type type) {
+        Type tmp = get(type);
+
+        if (tmp != null) {
+            return tmp;
+        }
+
+        expungeStaleEntries();
+
+        TypeRef newRef = new TypeRef(type, queue);
+        while (true) {
+            TypeRef ref = data.putIfAbsent(newRef, newRef);
+
+            if (ref == null) {
+                return type;
+            }
+
+            tmp = ref.get();
+            if (tmp != null) {
+                return tmp;
+            }
+
+            //已有的刚被回收（重试）
+        }
+    }
+
+    /**
+     * 当前条目数
+     */
+    int size() {
+        expungeStaleEntries();
+        return data.size();
+    }
+
+    private void expungeStaleEntries() {
+        TypeRef ref;
+        while ((ref = (TypeRef) queue.poll()) != null) {
+            data.remove(ref, ref);
+        }
+    }
+
+    /**
+     * 类型引用（缓存哈希；按类型等价比较）
+     */
+    private static class TypeRef extends WeakReference<Type> {
+        private final int hash;
+
+        TypeRef(Type type, ReferenceQueue<Type> queue) {
+            super(type, queue);
+            this.hash = type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o instanceof TypeRef) {
+                TypeRef that = (TypeRef) o;
+                if (hash != that.hash) {
+                    return false;
+                }
+
+                Type tmp = get();
+                return tmp != null && tmp.equals(that.get());
+            }
+
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2025 ~ noear.org and authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.noear.eggg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 字段访问器（VarHandle 实现；Java 9+，支持普通、不透明、易变访问模式）
+ *
+ * <p>通过 MethodHandles:privateLookupIn 获取私有访问（不需要 setAccessible）。各模式的句柄预先适配为 (Object)Object 与 (Object,Object)void，调用时走 invokeExact。
+ * 类型不匹配或空值时交给反射访问器处理（与 Field:get、set 的行为保持一致）</p>
+ *
+ * @author noear
+ * @since 1.0.3
+ */
+class FieldAccessorVarHandle implements FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    //按 FieldAccessMode 的顺序
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+    //基本类型字段的精确句柄：(Object)T 与 (Object,T)void（不装箱）
+    private final Class<?> fieldType;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+    private final FieldAccessor fallback;
+
+    FieldAccessorVarHandle(Field field, FieldAccessor fallback) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        VarHandle handle = lookup.unreflectVarHandle(field);
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+
+        this.getters = new MethodHandle[]{
+                toGetter(handle, VarHandle.AccessMode.GET, isStatic),
+                toGetter(handle, VarHandle.AccessMode.GET_OPAQUE, isStatic),
+                toGetter(handle, VarHandle.AccessMode.GET_VOLATILE, isStatic)};
+
+        if (Modifier.isFinal(field.getModifiers())) {
+            //只读字段（VarHandle 不支持写）
+            this.setters = null;
+        } else {
+            this.setters = new MethodHandle[]{
+                    toSetter(handle, VarHandle.AccessMode.SET, isStatic),
+                    toSetter(handle, VarHandle.AccessMode.SET_OPAQUE, isStatic),
+                    toSetter(handle, VarHandle.AccessMode.SET_VOLATILE, isStatic)};
+        }
+
+        this.fieldType = field.getType();
+
+        if (fieldType.isPrimitive()) {
+            this.primitiveGetter = toPrimitive(handle.toMethodHandle(VarHandle.AccessMode.GET), isStatic)
+                    .asType(MethodType.methodType(fieldType, Object.class));
+
+            if (setters == null) {
+                this.primitiveSetter = null;
+            } else {
+                this.primitiveSetter = toPrimitive(handle.toMethodHandle(VarHandle.AccessMode.SET), isStatic)
+                        .asType(MethodType.methodType(void.class, Object.class, fieldType));
+            }
+        } else {
+            this.primitiveGetter = null;
+            this.primitiveSetter = null;
+        }
+
+        this.fallback = fallback;
+    }
+
+    private static MethodHandle toPrimitive(MethodHandle tmp, boolean isStatic) {
+        if (isStatic) {
+            return MethodHandles.dropArguments(tmp, 0, Object.class);
+        } else {
+            return tmp;
+        }
+    }
+
+    private static MethodHandle toGetter(VarHandle handle, VarHandle.AccessMode mode, boolean isStatic) {
+        MethodHandle tmp = handle.toMethodHandle(mode);
+        if (isStatic) {
+            tmp = MethodHandles.dropArguments(tmp, 0, Object.class);
+        }
+        return tmp.asType(GETTER_TYPE);
+    }
+
+    private static MethodHandle toSetter(VarHandle handle, VarHandle.AccessMode mode, boolean isStatic) {
+        MethodHandle tmp = handle.toMethodHandle(mode);
+        if (isStatic) {
+            tmp = MethodHandles.dropArguments(tmp, 0, Object.class);
+        }
+        return tmp.asType(SETTER_TYPE);
+    }
+
+    @Override
+    public Object get(Object target) {
+        return get(target, FieldAccessMode.PLAIN);
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        set(target, value, FieldAccessMode.PLAIN);
+    }
+
+    @Override
+    public Object get(Object target, FieldAccessMode mode) {
+        try {
+            return (Object) getters[mode.ordinal()].invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.get(target, mode);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value, FieldAccessMode mode) {
+        if (setters == null) {
+            fallback.set(target, value, mode);
+            return;
+        }
+
+        try {
+            setters[mode.ordinal()].invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.set(target, value, mode);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object target) {
+        if (fieldType != int.class) {
+            return fallback.getInt(target);
+        }
+
+        try {
+            return (int) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getInt(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        if (fieldType != int.class || primitiveSetter == null) {
+            fallback.setInt(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setInt(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        if (fieldType != long.class) {
+            return fallback.getLong(target);
+        }
+
+        try {
+            return (long) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getLong(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        if (fieldType != long.class || primitiveSetter == null) {
+            fallback.setLong(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setLong(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        if (fieldType != double.class) {
+            return fallback.getDouble(target);
+        }
+
+        try {
+            return (double) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getDouble(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        if (fieldType != double.class || primitiveSetter == null) {
+            fallback.setDouble(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setDouble(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        if (fieldType != boolean.class) {
+            return fallback.getBoolean(target);
+        }
+
+        try {
+            return (boolean) primitiveGetter.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            return fallback.getBoolean(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        if (fieldType != boolean.class || primitiveSetter == null) {
+            fallback.setBoolean(target, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            fallback.setBoolean(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
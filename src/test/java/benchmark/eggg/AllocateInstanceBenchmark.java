@@ -0,0 +1,83 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ClassEggg;
+import org.noear.eggg.ConstrEggg;
+import org.noear.eggg.Eggg;
+import org.noear.eggg.FieldEggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 反序列化式的实例化（再逐个设置字段）：创造器 + 默认参数 vs ClassEggg:allocateInstance（用 GCProfiler 看分配率）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocateInstanceBenchmark {
+    private final String name = "noear";
+
+    private ClassEggg classEggg;
+    private ConstrEggg creator;
+    private FieldEggg nameField;
+    private FieldEggg ageField;
+
+    @Setup
+    public void setup() {
+        classEggg = new Eggg().getClassEggg(Model.class);
+        creator = classEggg.getCreator();
+        nameField = classEggg.getFieldEgggByName("name");
+        ageField = classEggg.getFieldEgggByName("age");
+    }
+
+    /**
+     * 原来的方式（构建默认参数，执行构造函数，再覆盖字段）
+     */
+    @Benchmark
+    public Object creatorWithDummyArgs() throws Exception {
+        Object[] args = new Object[creator.getParamCount()];
+        args[1] = 0;
+
+        Object model = creator.newInstance(args);
+        nameField.setValue(model, name);
+        ageField.setInt(model, 18);
+        return model;
+    }
+
+    @Benchmark
+    public Object allocateInstance() throws Exception {
+        Object model = classEggg.allocateInstance();
+        nameField.setValue(model, name);
+        ageField.setInt(model, 18);
+        return model;
+    }
+
+    public static class Model {
+        private String name;
+        private int age;
+        private List<String> tags = new ArrayList<>();
+
+        public Model(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AllocateInstanceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package benchmark.eggg;
+
+import org.noear.eggg.Eggg;
+import org.noear.eggg.TypeEggg;
+import org.noear.eggg.model.UserModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存命中读取：compute 路径 vs get 路径（多线程争用同一热点 key）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class CacheReadBenchmark {
+    private final Eggg eggg = new Eggg();
+    private final Map<Type, SoftReference<TypeEggg>> computeCached = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setup() {
+        eggg.getTypeEggg(UserModel.class);
+        computeByOld(UserModel.class);
+    }
+
+    /**
+     * 旧的读取路径（每次都走 compute，命中时也要拿桶锁）
+     */
+    private TypeEggg computeByOld(Type type) {
+        if (type instanceof Class<?>) {
+            if (((Class<?>) type).isAnonymousClass()) {
+                type = ((Class<?>) type).getGenericSuperclass();
+            }
+        }
+
+        return computeCached.compute(type, (t, softRef) -> {
+            if (softRef != null && softRef.get() != null) {
+                return softRef;
+            }
+
+            return new SoftReference<>(eggg.newTypeEggg(t));
+        }).get();
+    }
+
+    @Benchmark
+    public TypeEggg compute() {
+        return computeByOld(UserModel.class);
+    }
+
+    @Benchmark
+    public TypeEggg get() {
+        return eggg.getTypeEggg(UserModel.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheReadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ClassEggg;
+import org.noear.eggg.Eggg;
+import org.noear.eggg.PropertyEggg;
+import org.noear.eggg.TypeEggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 类包装器构建：全量加载 vs 延迟加载（只读属性，如 JSON 序列化）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassEgggBuildBenchmark {
+    private final Eggg eagerEggg = new Eggg();
+    private final Eggg lazyEggg = new Eggg().withLazy(true);
+
+    private TypeEggg eagerTypeEggg;
+    private TypeEggg lazyTypeEggg;
+
+    @Setup
+    public void setup() {
+        eagerTypeEggg = eagerEggg.getTypeEggg(FatEntity.class);
+        lazyTypeEggg = lazyEggg.getTypeEggg(FatEntity.class);
+
+        //预热方法、参数等用到的类型（只比较 ClassEggg 本身的构建）
+        eagerEggg.getClassEggg(eagerTypeEggg);
+        lazyEggg.getClassEggg(lazyTypeEggg).getPropertyEgggs();
+    }
+
+    @Benchmark
+    public Collection<PropertyEggg> eager() {
+        ClassEggg classEggg = eagerEggg.newClassEggg(eagerTypeEggg);
+        return classEggg.getPropertyEgggs();
+    }
+
+    @Benchmark
+    public Collection<PropertyEggg> lazy() {
+        ClassEggg classEggg = lazyEggg.newClassEggg(lazyTypeEggg);
+        return classEggg.getPropertyEgggs();
+    }
+
+    /**
+     * 胖实体（继承了大量公有方法，只有少量属性）
+     */
+    public static class FatEntity extends ConcurrentHashMap<String, Object> {
+        private long id;
+        private String name;
+        private String title;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ClassEgggBuildBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
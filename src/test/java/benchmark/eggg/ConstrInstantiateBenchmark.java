@@ -0,0 +1,133 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ConstrEggg;
+import org.noear.eggg.Eggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实例化：原来的反射路径（每次检查 isAccessible，再 newInstance、invoke）vs ConstrEggg:newInstance、newInstance0 ~ 2（用 GCProfiler 看分配率）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstrInstantiateBenchmark {
+    private final String name = "noear";
+    private final Integer age = 18;
+
+    private Constructor<?> noArgsConstr;
+    private Constructor<?> creatorConstr;
+    private Method factoryMethod;
+
+    private ConstrEggg noArgs;
+    private ConstrEggg creator;
+    private ConstrEggg factory;
+
+    @Setup
+    public void setup() throws Exception {
+        noArgsConstr = NoArgsModel.class.getDeclaredConstructor();
+        creatorConstr = CreatorModel.class.getDeclaredConstructor(String.class, int.class);
+        factoryMethod = Level.class.getDeclaredMethod("of", String.class);
+
+        Eggg eggg = new Eggg().withCreatorClass(Creator.class);
+        noArgs = eggg.getClassEggg(NoArgsModel.class).getCreator();
+        creator = eggg.getClassEggg(CreatorModel.class).getCreator();
+        factory = eggg.getClassEggg(Level.class).getCreator();
+    }
+
+    @Benchmark
+    public Object noArgsLegacy() throws Exception {
+        if (noArgsConstr.isAccessible() == false) {
+            noArgsConstr.setAccessible(true);
+        }
+
+        return noArgsConstr.newInstance();
+    }
+
+    @Benchmark
+    public Object noArgsNewInstance() throws Exception {
+        return noArgs.newInstance();
+    }
+
+    @Benchmark
+    public Object noArgsNewInstance0() throws Exception {
+        return noArgs.newInstance0();
+    }
+
+    @Benchmark
+    public Object creatorLegacy() throws Exception {
+        if (creatorConstr.isAccessible() == false) {
+            creatorConstr.setAccessible(true);
+        }
+
+        return creatorConstr.newInstance(name, age);
+    }
+
+    @Benchmark
+    public Object creatorNewInstance2() throws Exception {
+        return creator.newInstance2(name, age);
+    }
+
+    @Benchmark
+    public Object factoryLegacy() throws Exception {
+        if (factoryMethod.isAccessible() == false) {
+            factoryMethod.setAccessible(true);
+        }
+
+        return factoryMethod.invoke(null, name);
+    }
+
+    @Benchmark
+    public Object factoryNewInstance1() throws Exception {
+        return factory.newInstance1(name);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Creator {
+    }
+
+    public static class NoArgsModel {
+        private String name;
+    }
+
+    public static class CreatorModel {
+        private final String name;
+        private final int age;
+
+        @Creator
+        private CreatorModel(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public enum Level {
+        NOEAR;
+
+        @Creator
+        static Level of(String name) {
+            return NOEAR;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConstrInstantiateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
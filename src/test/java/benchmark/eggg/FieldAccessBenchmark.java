@@ -0,0 +1,169 @@
+package benchmark.eggg;
+
+import org.noear.eggg.Eggg;
+import org.noear.eggg.FieldAccessMode;
+import org.noear.eggg.FieldAccessorFactory;
+import org.noear.eggg.FieldEggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字段读写（FieldEggg:getValue、setValue）：原来的反射路径 vs 反射访问器 vs 生成的访问器 vs VarHandle 访问器（含访问模式）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessBenchmark {
+    private final Model model = new Model();
+
+    private Field nameField;
+    private FieldEggg reflectName;
+    private FieldEggg generateName;
+    private FieldEggg reflectAge;
+    private FieldEggg generateAge;
+    private FieldEggg varHandleName;
+    private FieldEggg methodHandleName;
+
+    @Setup
+    public void setup() throws Exception {
+        nameField = Model.class.getDeclaredField("name");
+
+        Eggg reflect = new Eggg().withFieldAccessorFactory(FieldAccessorFactory.reflect());
+        Eggg generate = new Eggg().withFieldAccessorFactory(FieldAccessorFactory.generate());
+        Eggg varHandle = new Eggg().withFieldAccessorFactory(FieldAccessorFactory.varHandle());
+        Eggg methodHandle = new Eggg().withFieldAccessorFactory(FieldAccessorFactory.methodHandle());
+
+        reflectName = reflect.getClassEggg(Model.class).getFieldEgggByName("name");
+        reflectAge = reflect.getClassEggg(Model.class).getFieldEgggByName("age");
+        generateName = generate.getClassEggg(Model.class).getFieldEgggByName("name");
+        generateAge = generate.getClassEggg(Model.class).getFieldEgggByName("age");
+        varHandleName = varHandle.getClassEggg(Model.class).getFieldEgggByName("name");
+        methodHandleName = methodHandle.getClassEggg(Model.class).getFieldEgggByName("name");
+
+        model.name = "noear";
+        model.age = 18;
+    }
+
+    /**
+     * 原来的路径（每次检查 isAccessible，再 Field:get）
+     */
+    @Benchmark
+    public Object getLegacy() throws Exception {
+        if (nameField.isAccessible() == false) {
+            nameField.setAccessible(true);
+        }
+
+        return nameField.get(model);
+    }
+
+    @Benchmark
+    public Object getReflect() {
+        return reflectName.getValue(model);
+    }
+
+    @Benchmark
+    public Object getGenerate() {
+        return generateName.getValue(model);
+    }
+
+    @Benchmark
+    public Object getVarHandle() {
+        return varHandleName.getValue(model);
+    }
+
+    @Benchmark
+    public Object getMethodHandle() {
+        return methodHandleName.getValue(model);
+    }
+
+    @Benchmark
+    public Object getOpaqueVarHandle() {
+        return varHandleName.getValue(model, FieldAccessMode.OPAQUE);
+    }
+
+    @Benchmark
+    public Object getVolatileVarHandle() {
+        return varHandleName.getValue(model, FieldAccessMode.VOLATILE);
+    }
+
+    /**
+     * 普通读取 + 获取屏障
+     */
+    @Benchmark
+    public Object getVolatileGenerate() {
+        return generateName.getValue(model, FieldAccessMode.VOLATILE);
+    }
+
+    @Benchmark
+    public Object getIntReflect() {
+        return reflectAge.getValue(model);
+    }
+
+    @Benchmark
+    public Object getIntGenerate() {
+        return generateAge.getValue(model);
+    }
+
+    @Benchmark
+    public void setLegacy() throws Exception {
+        if (nameField.isAccessible() == false) {
+            nameField.setAccessible(true);
+        }
+
+        nameField.set(model, "eggg");
+    }
+
+    @Benchmark
+    public void setReflect() {
+        reflectName.setValue(model, "eggg");
+    }
+
+    @Benchmark
+    public void setGenerate() {
+        generateName.setValue(model, "eggg");
+    }
+
+    @Benchmark
+    public void setMethodHandle() {
+        methodHandleName.setValue(model, "eggg");
+    }
+
+    @Benchmark
+    public void setVarHandle() {
+        varHandleName.setValue(model, "eggg");
+    }
+
+    @Benchmark
+    public void setVolatileVarHandle() {
+        varHandleName.setValue(model, "eggg", FieldAccessMode.VOLATILE);
+    }
+
+    /**
+     * 释放屏障 + 普通写入 + 全屏障
+     */
+    @Benchmark
+    public void setVolatileGenerate() {
+        generateName.setValue(model, "eggg", FieldAccessMode.VOLATILE);
+    }
+
+    public static class Model {
+        private String name;
+        private int age;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FieldAccessBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ClassEggg;
+import org.noear.eggg.Eggg;
+import org.noear.eggg.TypeEggg;
+import org.noear.eggg.generic.BaseMapper;
+import org.noear.eggg.generic.Demo;
+import org.noear.eggg.generic.DemoMapper;
+import org.noear.eggg.generic.ServiceImpl;
+import org.noear.eggg.generic.ServiceImplEx;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 深层泛型继承（五层，ServiceImplEx 风格）的泛型信息查找
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericInfoBenchmark {
+    private final Eggg eggg = new Eggg();
+    private TypeEggg ownerEggg;
+
+    @Setup
+    public void setup() {
+        ownerEggg = eggg.getTypeEggg(DeepDemoService.class);
+        eggg.getClassEggg(ownerEggg);
+    }
+
+    /**
+     * 查找顶层声明类的泛型信息
+     */
+    @Benchmark
+    public Map<String, Type> findGenericInfo() {
+        return eggg.findGenericInfo(ownerEggg, ServiceImpl.class);
+    }
+
+    /**
+     * 构建类包装器（每个字段都要查找一次声明类的泛型信息）
+     */
+    @Benchmark
+    public ClassEggg build() {
+        return eggg.newClassEggg(eggg.newTypeEggg(DeepDemoService.class));
+    }
+
+    public static class Level3ServiceImpl<MP extends BaseMapper<M>, M> extends ServiceImplEx<MP, M> {
+        protected List<M> cached;
+        protected Map<String, M> indexed;
+    }
+
+    public static class Level4ServiceImpl<MP extends BaseMapper<M>, M> extends Level3ServiceImpl<MP, M> {
+        protected M current;
+        protected List<Map<String, M>> history;
+    }
+
+    public static class DeepDemoService extends Level4ServiceImpl<DemoMapper, Demo> {
+        protected Demo last;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GenericInfoBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ClassEggg;
+import org.noear.eggg.Eggg;
+import org.noear.eggg.MethodEggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法调用：Method:invoke vs 原来的 bindTo + invokeWithArguments vs MethodEggg:invoke、invoke2（含私有方法；用 GCProfiler 看分配率）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvokeBenchmark {
+    private final Service service = new Service();
+    private final String a = "a";
+    private final String b = "b";
+
+    private Method method;
+    private MethodHandle methodHandle;
+    private MethodEggg methodEggg;
+    private Method privateMethod;
+    private MethodEggg privateMethodEggg;
+
+    @Setup
+    public void setup() throws Exception {
+        method = Service.class.getMethod("call", String.class, String.class);
+        methodHandle = MethodHandles.lookup().unreflect(method);
+
+        ClassEggg classEggg = new Eggg().getClassEggg(Service.class);
+        for (MethodEggg me : classEggg.getPublicMethodEgggs()) {
+            if (me.getName().equals("call")) {
+                methodEggg = me;
+            }
+        }
+
+        privateMethod = Service.class.getDeclaredMethod("hook", String.class, String.class);
+        privateMethodEggg = new Eggg().newMethodEggg(classEggg, privateMethod);
+    }
+
+    @Benchmark
+    public Object reflect() throws Exception {
+        return method.invoke(service, a, b);
+    }
+
+    /**
+     * 原来的路径
+     */
+    @Benchmark
+    public Object legacy() throws Throwable {
+        return methodHandle.bindTo(service).invokeWithArguments(a, b);
+    }
+
+    @Benchmark
+    public Object invoke() throws Throwable {
+        return methodEggg.invoke(service, a, b);
+    }
+
+    @Benchmark
+    public Object invoke2() throws Throwable {
+        return methodEggg.invoke2(service, a, b);
+    }
+
+    /**
+     * 私有方法（原来的路径：每次检查 isAccessible，再 Method:invoke）
+     */
+    @Benchmark
+    public Object privateReflect() throws Exception {
+        if (privateMethod.isAccessible() == false) {
+            privateMethod.setAccessible(true);
+        }
+
+        return privateMethod.invoke(service, a, b);
+    }
+
+    @Benchmark
+    public Object privateInvoke2() throws Throwable {
+        return privateMethodEggg.invoke2(service, a, b);
+    }
+
+    public static class Service {
+        public Object call(String a, String b) {
+            return a;
+        }
+
+        private Object hook(String a, String b) {
+            return b;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MethodInvokeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ClassEggg;
+import org.noear.eggg.Eggg;
+import org.noear.eggg.TypeEggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法扫描分配量（声明的公有方法与公有方法共用 MethodEggg；看 gc.alloc.rate.norm）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodScanBenchmark {
+    private final Eggg eggg = new Eggg();
+    private TypeEggg typeEggg;
+
+    @Setup
+    public void setup() {
+        typeEggg = eggg.getTypeEggg(WideService.class);
+        eggg.getClassEggg(typeEggg);
+    }
+
+    @Benchmark
+    public ClassEggg build() {
+        return eggg.newClassEggg(typeEggg);
+    }
+
+    /**
+     * 宽服务（声明了较多的公有方法）
+     */
+    public static class WideService {
+        public String find(long id) { return null; }
+        public List<String> findAll(int page, int size) { return null; }
+        public Map<String, Long> count(String group) { return null; }
+        public void save(String name, long value) { }
+        public void delete(long id) { }
+        public boolean exists(long id) { return false; }
+        public List<Map<String, Object>> query(String sql, Object... args) { return null; }
+        public void update(long id, Map<String, Object> values) { }
+        public String render(String template, Map<String, Object> model) { return null; }
+        public long next(String seq) { return 0; }
+        public void lock(String key, long timeout) { }
+        public void unlock(String key) { }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MethodScanBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+package benchmark.eggg;
+
+import org.noear.eggg.ClassEggg;
+import org.noear.eggg.Eggg;
+import org.noear.eggg.FieldEggg;
+import org.noear.eggg.PropertyMethodEggg;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基本类型读写：装箱的 getValue、setValue vs 不装箱的 getLong、setLong（用 GCProfiler 看分配率）
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveAccessBenchmark {
+    private final Model model = new Model();
+
+    private FieldEggg idField;
+    private PropertyMethodEggg idGetter;
+    private PropertyMethodEggg idSetter;
+
+    //超出 Long 缓存的范围（装箱时每次都分配）
+    private long value = 1_000_000L;
+
+    @Setup
+    public void setup() {
+        ClassEggg classEggg = new Eggg().getClassEggg(Model.class);
+
+        idField = classEggg.getFieldEgggByName("id");
+        idGetter = classEggg.getPropertyEgggByName("id").getGetterEggg();
+        idSetter = classEggg.getPropertyEgggByName("id").getSetterEggg();
+
+        model.id = value;
+    }
+
+    @Benchmark
+    public long fieldGetBoxed() {
+        return (Long) idField.getValue(model);
+    }
+
+    @Benchmark
+    public long fieldGetLong() {
+        return idField.getLong(model);
+    }
+
+    @Benchmark
+    public void fieldSetBoxed() {
+        idField.setValue(model, ++value);
+    }
+
+    @Benchmark
+    public void fieldSetLong() {
+        idField.setLong(model, ++value);
+    }
+
+    @Benchmark
+    public long getterBoxed() {
+        return (Long) idGetter.getValue(model);
+    }
+
+    @Benchmark
+    public long getterLong() {
+        return idGetter.getLong(model);
+    }
+
+    @Benchmark
+    public void setterBoxed() {
+        idSetter.setValue(model, ++value);
+    }
+
+    @Benchmark
+    public void setterLong() {
+        idSetter.setLong(model, ++value);
+    }
+
+    public static class Model {
+        private long id;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrimitiveAccessBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark.eggg;
+
+import org.noear.eggg.Eggg;
+import org.noear.eggg.GenericResolver;
+import org.noear.eggg.TypeEggg;
+import org.noear.eggg.model.UserModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 嵌套泛型键（Map&lt;String, List&lt;Map&lt;Long, UserModel&gt;&gt;&gt;）的缓存命中延时
+ *
+ * @author noear 2026/10/18 created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeKeyBenchmark {
+    public Map<String, List<Map<Long, UserModel>>> field;
+
+    private final Eggg eggg = new Eggg();
+
+    private Type jdkKey;
+    private Type implKey;
+    private Type canonicalKey;
+
+    @Setup
+    public void setup() throws Exception {
+        jdkKey = TypeKeyBenchmark.class.getField("field").getGenericType();
+
+        Type inner = new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{Long.class, UserModel.class});
+        Type list = new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{inner});
+        implKey = new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{String.class, list});
+
+        canonicalKey = eggg.getTypeEggg(jdkKey).getGenericType();
+    }
+
+    /**
+     * JDK 的类型（如 Field:getGenericType）
+     */
+    @Benchmark
+    public TypeEggg jdkKey() {
+        return eggg.getTypeEggg(jdkKey);
+    }
+
+    /**
+     * 等价但不是同一个实例的类型（如审查后新建的）
+     */
+    @Benchmark
+    public TypeEggg equalKey() {
+        return eggg.getTypeEggg(implKey);
+    }
+
+    /**
+     * 规范实例（如 TypeEggg:getGenericType）
+     */
+    @Benchmark
+    public TypeEggg canonicalKey() {
+        return eggg.getTypeEggg(canonicalKey);
+    }
+
+    /**
+     * 计算哈希
+     */
+    @Benchmark
+    public int hashOfImpl() {
+        return implKey.hashCode();
+    }
+
+    @Benchmark
+    public int hashOfJdk() {
+        return jdkKey.hashCode();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TypeKeyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
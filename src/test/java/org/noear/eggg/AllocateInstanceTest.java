@@ -0,0 +1,105 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分配实例测试（不执行构造函数）
+ */
+public class AllocateInstanceTest {
+    private final Eggg eggg = new Eggg();
+
+    @Test
+    public void testAllocate() throws Exception {
+        ClassEggg classEggg = eggg.getClassEggg(PojoModel.class);
+        assertTrue(classEggg.isAllocatable());
+
+        int count = PojoModel.CONSTRUCTED.get();
+        PojoModel model = classEggg.allocateInstance();
+
+        //构造函数与字段初始化都不执行
+        assertEquals(count, PojoModel.CONSTRUCTED.get());
+        assertNull(model.name);
+        assertEquals(0, model.age);
+        assertNull(model.tags);
+
+        //随后逐个设置字段
+        classEggg.getFieldEgggByName("name").setValue(model, "a");
+        classEggg.getFieldEgggByName("age").setInt(model, 12);
+        assertEquals("a", model.name);
+        assertEquals(12, model.age);
+
+        assertNotSame(model, classEggg.allocateInstance());
+    }
+
+    @Test
+    public void testNotAllocatable() {
+        assertFalse(eggg.getClassEggg(Runnable.class).isAllocatable());
+        assertFalse(eggg.getClassEggg(AbstractModel.class).isAllocatable());
+        assertFalse(eggg.getClassEggg(Level.class).isAllocatable());
+        assertFalse(eggg.getClassEggg(int.class).isAllocatable());
+        assertFalse(eggg.getClassEggg(String[].class).isAllocatable());
+
+        //退回创造器（抽象类、接口不能创建）
+        assertThrows(InstantiationException.class, () -> eggg.getClassEggg(AbstractModel.class).allocateInstance());
+        assertThrows(InstantiationException.class, () -> eggg.getClassEggg(Runnable.class).allocateInstance());
+    }
+
+    @Test
+    public void testCreatorDefaultArgs() throws Exception {
+        //不可分配时（如 record）按创造器参数的默认值创建
+        ConstrEggg creator = eggg.getClassEggg(PrimitiveModel.class).getCreator();
+        Object[] args = creator.newDefaultArgs();
+
+        assertArrayEquals(new Object[]{false, (byte) 0, (char) 0, (short) 0, 0, 0L, 0F, 0D, null}, args);
+
+        PrimitiveModel model = creator.newInstance(args);
+        assertEquals(0L, model.id);
+        assertNull(model.name);
+
+        //每次都是新的数组（改动不影响下次）
+        args[4] = 9;
+        assertNotSame(args, creator.newDefaultArgs());
+        assertEquals(0, creator.newDefaultArgs()[4]);
+    }
+
+    public static class PrimitiveModel {
+        private final long id;
+        private final String name;
+
+        public PrimitiveModel(boolean flag, byte b, char c, short s, int i, long id, float f, double d, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class PojoModel {
+        static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+
+        private String name;
+        private int age = 1;
+        private String[] tags = new String[0];
+
+        public PojoModel(String name, int age) {
+            CONSTRUCTED.incrementAndGet();
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static abstract class AbstractModel {
+        private String name;
+
+        public AbstractModel(String name) {
+            this.name = name;
+        }
+    }
+
+    public enum Level {
+        LOW,
+        HIGH
+    }
+}
@@ -0,0 +1,206 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+import org.noear.eggg.model.UserModel;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 延迟加载测试
+ */
+public class ClassEgggLazyTest {
+    static class CountingReflectHandler implements ReflectHandler {
+        final AtomicInteger declaredFields = new AtomicInteger();
+        final AtomicInteger declaredMethods = new AtomicInteger();
+        final AtomicInteger methods = new AtomicInteger();
+
+        @Override
+        public Field[] getDeclaredFields(Class<?> clazz) {
+            declaredFields.incrementAndGet();
+            return ReflectHandlerDefault.getInstance().getDeclaredFields(clazz);
+        }
+
+        @Override
+        public Method[] getDeclaredMethods(Class<?> clazz) {
+            declaredMethods.incrementAndGet();
+            return ReflectHandlerDefault.getInstance().getDeclaredMethods(clazz);
+        }
+
+        @Override
+        public Method[] getMethods(Class<?> clazz) {
+            methods.incrementAndGet();
+            return ReflectHandlerDefault.getInstance().getMethods(clazz);
+        }
+    }
+
+    public static class LazyModel {
+        private int id;
+        private String name;
+
+        public LazyModel() {
+        }
+
+        public LazyModel(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void rename(String name) {
+            this.name = name;
+        }
+
+        private void reset() {
+            this.id = 0;
+        }
+    }
+
+    @Test
+    public void testNothingLoadedBeforeAccess() {
+        CountingReflectHandler handler = new CountingReflectHandler();
+        Eggg eggg = new Eggg().withLazy(true).withReflectHandler(handler);
+
+        eggg.getClassEggg(LazyModel.class);
+
+        assertEquals(0, handler.declaredFields.get());
+        assertEquals(0, handler.declaredMethods.get());
+        assertEquals(0, handler.methods.get());
+    }
+
+    @Test
+    public void testPropertiesOnly() {
+        CountingReflectHandler handler = new CountingReflectHandler();
+        Eggg eggg = new Eggg().withLazy(true).withReflectHandler(handler);
+
+        ClassEggg classEggg = eggg.getClassEggg(LazyModel.class);
+
+        assertEquals(2, classEggg.getPropertyEgggs().size());
+        assertNotNull(classEggg.getPropertyEgggByName("id").getGetterEggg());
+        assertNotNull(classEggg.getPropertyEgggByName("name").getSetterEggg());
+        assertNotNull(classEggg.getPropertyEgggByName("name").getFieldEggg());
+
+        //属性只用到字段与公有方法
+        assertEquals(0, handler.declaredMethods.get());
+        assertEquals(1, handler.methods.get());
+
+        //之后再取方法，公有方法只取一次，且与属性共用 MethodEggg
+        MethodEggg getter = classEggg.findMethodEgggOrNew(classEggg.getPropertyEgggByName("id").getGetterEggg().getMethod());
+        assertTrue(classEggg.getPublicMethodEgggs().contains(getter));
+        assertEquals(1, handler.declaredMethods.get());
+        assertEquals(1, handler.methods.get());
+    }
+
+    @Test
+    public void testSameAsEager() throws Exception {
+        ClassEggg eager = new Eggg().getClassEggg(LazyModel.class);
+        ClassEggg lazy = new Eggg().withLazy(true).getClassEggg(LazyModel.class);
+
+        assertEquals(names(eager.getPropertyEgggs()), names(lazy.getPropertyEgggs()));
+        assertEquals(eager.getAllFieldEgggs().size(), lazy.getAllFieldEgggs().size());
+        assertEquals(eager.getPublicMethodEgggs().size(), lazy.getPublicMethodEgggs().size());
+        assertEquals(eager.getDeclaredMethodEgggs().size(), lazy.getDeclaredMethodEgggs().size());
+        assertEquals(eager.getOwnMethodEgggs().size(), lazy.getOwnMethodEgggs().size());
+        assertEquals(eager.isLikeRecordClass(), lazy.isLikeRecordClass());
+
+        assertEquals(0, lazy.getCreator().getParamCount());
+        assertNotNull(lazy.findConstrEgggOrNull(int.class));
+        assertNotNull(lazy.findMethodEgggOrNull("rename", String.class));
+        assertNotNull(lazy.findMethodEgggOrNull("reset"));
+
+        LazyModel model = lazy.getCreator().newInstance();
+        lazy.getPropertyEgggByName("name").getSetterEggg().setValue(model, "a");
+        assertEquals("a", model.getName());
+    }
+
+    @Test
+    public void testConcurrentFirstAccess() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            ClassEggg classEggg = new Eggg().withLazy(true).getClassEggg(UserModel.class);
+
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<PropertyEggg>> futures = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        return classEggg.getPropertyEgggByName("username");
+                    }));
+                }
+
+                Set<PropertyEggg> results = ConcurrentHashMap.newKeySet();
+                for (Future<PropertyEggg> future : futures) {
+                    PropertyEggg pe = future.get();
+                    assertNotNull(pe);
+                    assertNotNull(pe.getGetterEggg());
+                    results.add(pe);
+                }
+
+                assertEquals(1, results.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void testFailedLoadRetries() {
+        //处理器第一次失败：异常抛给访问者，部分不标记为已加载；下次访问重新加载（不残留上次的部分）
+        AtomicBoolean failField = new AtomicBoolean(true);
+        AtomicBoolean failMethod = new AtomicBoolean(true);
+        Eggg eggg = new Eggg().withLazy(true);
+        eggg.withDigestHandler((classEggg, source, def) -> {
+            if (source instanceof FieldEggg && "name".equals(((FieldEggg) source).getName()) && failField.getAndSet(false)) {
+                throw new IllegalStateException("field");
+            }
+            if (source instanceof MethodEggg && "rename".equals(((MethodEggg) source).getName()) && failMethod.getAndSet(false)) {
+                throw new IllegalStateException("method");
+            }
+            return def;
+        });
+
+        ClassEggg classEggg = eggg.getClassEggg(LazyModel.class);
+
+        assertThrows(IllegalStateException.class, classEggg::getAllFieldEgggs);
+        assertEquals(2, classEggg.getAllFieldEgggs().size());
+        assertNotNull(classEggg.getFieldEgggByName("name"));
+
+        assertThrows(IllegalStateException.class, classEggg::getPublicMethodEgggs);
+        assertNotNull(classEggg.findMethodEgggOrNull("rename", String.class));
+        assertEquals(Arrays.asList("id", "name"), names(classEggg.getPropertyEgggs()));
+    }
+
+    private static List<String> names(Iterable<PropertyEggg> list) {
+        List<String> names = new ArrayList<>();
+        for (PropertyEggg pe : list) {
+            names.add(pe.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,191 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 构造实例化测试（句柄实例化器与固定参数实例化）
+ */
+public class ConstrInstantiateTest {
+    //实例化器只在 Java 15+ 生成（更低的版本走反射）
+    private static final boolean GENERATED = JavaUtil.JAVA_MAJOR_VERSION >= 15;
+
+    private final Eggg eggg = new Eggg().withCreatorClass(Creator.class);
+
+    @Test
+    public void testNoArgs() throws Exception {
+        ConstrEggg creator = eggg.getClassEggg(NoArgsModel.class).getCreator();
+        assertEquals(GENERATED, creator.getInstantiator() != null);
+
+        NoArgsModel m1 = creator.newInstance0();
+        NoArgsModel m2 = creator.newInstance();
+        assertNotSame(m1, m2);
+        assertEquals("init", m1.name);
+    }
+
+    @Test
+    public void testCreator() throws Exception {
+        ConstrEggg creator = eggg.getClassEggg(CreatorModel.class).getCreator();
+        assertEquals(2, creator.getParamCount());
+        assertEquals(GENERATED, creator.getInstantiator() != null);
+
+        CreatorModel m1 = creator.newInstance2("a", 1);
+        assertEquals("a", m1.name);
+        assertEquals(1, m1.age);
+
+        CreatorModel m2 = creator.newInstance("b", 2);
+        assertEquals("b", m2.name);
+        assertEquals(2, m2.age);
+    }
+
+    @Test
+    public void testWideParams() throws Exception {
+        ConstrEggg creator = eggg.getClassEggg(WideModel.class).getCreator();
+        if (GENERATED) {
+            assertTrue(creator.getInstantiator().getClass().getName().contains("$$EgggInstantiator"));
+        }
+
+        WideModel m1 = creator.newInstance5(1L, 2.5D, "c", 4, true);
+        assertEquals("1|2.5|c|4|true", m1.text);
+
+        WideModel m2 = creator.newInstance(1L, 2.5D, "c", 4, true);
+        assertEquals("1|2.5|c|4|true", m2.text);
+
+        ConstrEggg many = eggg.getClassEggg(ManyModel.class).getCreator();
+        assertEquals(7, many.getParamCount());
+        assertEquals(GENERATED, many.getInstantiator() != null);
+        ManyModel m3 = many.newInstance(1, 2L, 3, 4D, 5, "6", 7);
+        assertEquals(28D, m3.sum);
+
+        //与 Constructor:newInstance 一致：基本类型参数支持宽化转换（交给反射处理）
+        WideModel m4 = creator.newInstance5(1, 2, "c", (short) 4, true);
+        assertEquals("1|2.0|c|4|true", m4.text);
+    }
+
+    @Test
+    public void testStaticFactory() throws Exception {
+        ConstrEggg creator = eggg.getClassEggg(Level.class).getCreator();
+        assertEquals(GENERATED, creator.getInstantiator() != null);
+
+        assertSame(Level.HIGH, creator.newInstance1("high"));
+        assertSame(Level.LOW, creator.newInstance("low"));
+    }
+
+    @Test
+    public void testErrors() {
+        ConstrEggg creator = eggg.getClassEggg(CreatorModel.class).getCreator();
+
+        //与 Constructor:newInstance 一致
+        assertThrows(IllegalArgumentException.class, () -> creator.newInstance1("a"));
+        assertThrows(IllegalArgumentException.class, () -> creator.newInstance("a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> creator.newInstance2("a", null));
+
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class, () -> creator.newInstance2("", 1));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+
+        //枚举不能通过构造函数创建
+        ClassEggg level = eggg.getClassEggg(Level.class);
+        ConstrEggg c1 = eggg.newConstrEggg(level, Level.class.getDeclaredConstructors()[0], false);
+        assertNull(c1.getInstantiator());
+        assertThrows(IllegalArgumentException.class, () -> c1.newInstance("MIDDLE", 2));
+    }
+
+    @Test
+    public void testThrowOnce() {
+        ConstrEggg creator = eggg.getClassEggg(ThrowModel.class).getCreator();
+        assertEquals(GENERATED, creator.getInstantiator() != null);
+
+        //构造内部抛出的 NPE、CCE 原样包装，不会再交给反射重复执行
+        int count = ThrowModel.CALLS.get();
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class, () -> creator.newInstance1(null));
+        assertInstanceOf(NullPointerException.class, ex.getCause());
+        assertEquals(count + 1, ThrowModel.CALLS.get());
+
+        ex = assertThrows(InvocationTargetException.class, () -> creator.newInstance("cast"));
+        assertInstanceOf(ClassCastException.class, ex.getCause());
+        assertEquals(count + 2, ThrowModel.CALLS.get());
+
+        //参数不匹配时直接交给反射（构造不执行）
+        assertThrows(IllegalArgumentException.class, () -> creator.newInstance1(1));
+        assertEquals(count + 2, ThrowModel.CALLS.get());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Creator {
+    }
+
+    private static class NoArgsModel {
+        private String name;
+
+        private NoArgsModel() {
+            name = "init";
+        }
+    }
+
+    public static class CreatorModel {
+        private final String name;
+        private final int age;
+
+        @Creator
+        CreatorModel(String name, int age) {
+            if (name.isEmpty()) {
+                throw new IllegalStateException("name");
+            }
+
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static class ThrowModel {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        private final int size;
+
+        @Creator
+        public ThrowModel(String name) {
+            CALLS.incrementAndGet();
+
+            if ("cast".equals(name)) {
+                Object tmp = name;
+                this.size = ((Integer) tmp);
+            } else {
+                this.size = name.length();
+            }
+        }
+    }
+
+    public static class WideModel {
+        private final String text;
+
+        @Creator
+        public WideModel(long a, double b, String c, int d, boolean e) {
+            this.text = a + "|" + b + "|" + c + "|" + d + "|" + e;
+        }
+    }
+
+    public static class ManyModel {
+        private final double sum;
+
+        @Creator
+        public ManyModel(int a, long b, int c, double d, int e, String f, int g) {
+            this.sum = a + b + c + d + e + Integer.parseInt(f) + g;
+        }
+    }
+
+    public enum Level {
+        LOW,
+        HIGH;
+
+        @Creator
+        private static Level of(String name) {
+            return valueOf(name.toUpperCase());
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+import org.noear.eggg.model.UserModel;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存测试
+ */
+public class EgggCacheTest {
+    @Test
+    public void testCacheHit() {
+        Eggg eggg = new Eggg();
+
+        TypeEggg t1 = eggg.getTypeEggg(UserModel.class);
+        TypeEggg t2 = eggg.getTypeEggg(UserModel.class);
+        assertSame(t1, t2);
+
+        ClassEggg c1 = eggg.getClassEggg(t1);
+        ClassEggg c2 = eggg.getClassEggg(t2);
+        assertSame(c1, c2);
+    }
+
+    @Test
+    public void testClassValueTier() {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong);
+
+        TypeEggg t1 = eggg.getTypeEggg(UserModel.class);
+        assertSame(t1, eggg.getTypeEggg(UserModel.class));
+
+        //参数化类型仍走类型缓存
+        TypeEggg t2 = eggg.getTypeEggg(new TypeRef<Map<String, UserModel>>() {}.getClass());
+        assertTrue(t2.isParameterizedType());
+        assertSame(t2, eggg.getTypeEggg(t2.getGenericType()));
+
+        eggg.clear();
+        assertNotSame(t1, eggg.getTypeEggg(UserModel.class));
+    }
+
+    @Test
+    public void testConcurrentMissIsSingleFlight() throws Exception {
+        Eggg eggg = new Eggg();
+        int threads = 16;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ClassEggg>> futures = new CopyOnWriteArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return eggg.getClassEggg(UserModel.class);
+                }));
+            }
+
+            start.countDown();
+
+            ClassEggg first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ClassEggg> f1 : futures) {
+                assertSame(first, f1.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParameterizedTypeHit() {
+        Eggg eggg = new Eggg();
+
+        TypeEggg t1 = eggg.getTypeEggg(new TypeRef<Map<String, UserModel>>() {}.getClass());
+        TypeEggg t2 = eggg.getTypeEggg(new TypeRef<Map<String, UserModel>>() {}.getClass());
+
+        assertTrue(t1.isParameterizedType());
+        assertSame(t1, t2);
+    }
+
+    @Test
+    public void testWithCache() {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, () -> EgggCache.bounded(10));
+
+        ClassEggg c1 = eggg.getClassEggg(UserModel.class);
+        ClassEggg c2 = eggg.getClassEggg(UserModel.class);
+        assertSame(c1, c2);
+
+        eggg.clear();
+        assertNotSame(c1, eggg.getClassEggg(UserModel.class));
+    }
+
+    @Test
+    public void testBoundedRawClassEggg() throws Exception {
+        //原始类的 ClassEggg 也按配置的缓存淘汰（不被 ClassValue 层的 TypeEggg 持有）
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, () -> EgggCache.bounded(2)).withStats(true);
+        WeakReference<ClassEggg> ref = new WeakReference<>(eggg.getClassEggg(StringBuilder.class));
+        Class<?>[] types = {UserModel.class, String.class, Integer.class, Long.class, Double.class};
+
+        for (int i = 0; i < 5; i++) {
+            for (Class<?> type : types) {
+                assertSame(type, eggg.getClassEggg(type).getTypeEggg().getType());
+            }
+        }
+
+        EgggCacheStats stats = eggg.stats().getClassEgggStats();
+        assertTrue(stats.getEntryCount() <= 2, "entries: " + stats.getEntryCount());
+        assertTrue(stats.getEvictionCount() > 0);
+
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(ref.get(), "evicted ClassEggg is still reachable");
+        assertSame(StringBuilder.class, eggg.getClassEggg(StringBuilder.class).getTypeEggg().getType());
+    }
+
+    @Test
+    public void testBoundedMaxEntries() {
+        EgggCache<Integer, String> cache = EgggCache.bounded(100);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("v" + i, cache.computeIfAbsent(i, k -> "v" + k));
+        }
+
+        assertTrue(cache.size() <= 100, "size: " + cache.size());
+    }
+
+    @Test
+    public void testBoundedMaxWeight() {
+        EgggCache<Integer, String> cache = EgggCache.bounded(1000, 10, (k, v) -> 5);
+
+        for (int i = 0; i < 100; i++) {
+            cache.computeIfAbsent(i, k -> "v" + k);
+        }
+
+        assertTrue(cache.size() <= 2, "size: " + cache.size());
+    }
+
+    @Test
+    public void testBoundedKeepsFrequent() {
+        EgggCache<Integer, String> cache = EgggCache.bounded(100);
+
+        for (int i = 0; i < 10; i++) {
+            cache.computeIfAbsent(i, k -> "hot" + k);
+        }
+
+        for (int n = 0; n < 500; n++) {
+            for (int i = 0; i < 10; i++) {
+                cache.get(i);
+            }
+        }
+
+        //一次性扫描大量冷数据
+        for (int i = 1000; i < 3000; i++) {
+            cache.computeIfAbsent(i, k -> "cold" + k);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("hot" + i, cache.get(i));
+        }
+    }
+
+    @Test
+    public void testBoundedRemoveAndClear() {
+        EgggCache<Integer, String> cache = EgggCache.bounded(100);
+
+        cache.computeIfAbsent(1, k -> "a");
+        cache.computeIfAbsent(2, k -> "b");
+        cache.remove(1);
+
+        assertNull(cache.get(1));
+        assertEquals("b", cache.get(2));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals("c", cache.computeIfAbsent(2, k -> "c"));
+    }
+
+    @Test
+    public void testSoft() {
+        EgggCache<Integer, String> cache = EgggCache.soft();
+
+        assertEquals("a", cache.computeIfAbsent(1, k -> "a"));
+        assertEquals("a", cache.computeIfAbsent(1, k -> "b"));
+        assertEquals(1, cache.size());
+
+        cache.remove(1);
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testStats() {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong).withStats(true);
+
+        eggg.getTypeEggg(UserModel.class); //miss
+        eggg.getTypeEggg(UserModel.class); //hit
+
+        TypeEggg typeEggg = eggg.getTypeEggg(UserModel.class); //hit
+        eggg.getClassEggg(typeEggg); //miss
+        eggg.getClassEggg(typeEggg); //hit
+
+        EgggStats stats = eggg.stats();
+        System.out.println(stats);
+
+        assertTrue(stats.getTypeEgggStats().getMissCount() >= 1);
+        assertTrue(stats.getTypeEgggStats().getHitCount() >= 2);
+        assertTrue(stats.getTypeEgggStats().getLoadCount() >= 1);
+        assertTrue(stats.getTypeEgggStats().getEntryCount() >= 1);
+
+        assertEquals(1, stats.getClassEgggStats().getMissCount());
+        assertEquals(1, stats.getClassEgggStats().getHitCount());
+        assertEquals(1, stats.getClassEgggStats().getLoadCount());
+        assertEquals(1, stats.getClassEgggStats().getEntryCount());
+        assertTrue(stats.getClassEgggStats().getTotalLoadTime() > 0);
+        assertTrue(stats.getClassEgggStats().getMaxLoadTime() <= stats.getClassEgggStats().getTotalLoadTime());
+
+        EgggStats before = eggg.resetStats();
+        assertEquals(1, before.getClassEgggStats().getLoadCount());
+
+        EgggStats after = eggg.stats();
+        assertEquals(0, after.getClassEgggStats().getLoadCount());
+        assertEquals(0, after.getClassEgggStats().getMaxLoadTime());
+        assertEquals(1, after.getClassEgggStats().getEntryCount());
+    }
+
+    @Test
+    public void testStatsAnonymousClass() {
+        Eggg eggg = new Eggg().withStats(true);
+        Class<?> anonymousClass = new ArrayList<UserModel>() {
+        }.getClass();
+
+        //父类型先构建好（只看匿名类自己的获取）
+        eggg.getTypeEggg(anonymousClass.getGenericSuperclass());
+        eggg.resetStats();
+
+        //每次获取只计一次
+        TypeEggg t1 = eggg.getTypeEggg(anonymousClass);
+        EgggStats stats = eggg.stats();
+        assertEquals(0, stats.getTypeEgggStats().getHitCount());
+        assertEquals(1, stats.getTypeEgggStats().getMissCount());
+
+        assertSame(t1, eggg.getTypeEggg(anonymousClass));
+        stats = eggg.stats();
+        assertEquals(1, stats.getTypeEgggStats().getHitCount());
+        assertEquals(1, stats.getTypeEgggStats().getMissCount());
+    }
+
+    @Test
+    public void testStatsEviction() {
+        Eggg eggg = new Eggg().withCache(() -> EgggCache.bounded(1), () -> EgggCache.bounded(1)).withStats(true);
+
+        for (int i = 0; i < 5; i++) {
+            eggg.getTypeEggg(new GenericResolver.ParameterizedTypeImpl(List.class, new java.lang.reflect.Type[]{Integer.class}));
+            eggg.getTypeEggg(new GenericResolver.ParameterizedTypeImpl(List.class, new java.lang.reflect.Type[]{Long.class}));
+        }
+
+        assertTrue(eggg.stats().getTypeEgggStats().getEvictionCount() > 0);
+    }
+
+    @Test
+    public void testStatsDisabled() {
+        Eggg eggg = new Eggg();
+
+        eggg.getClassEggg(UserModel.class);
+
+        EgggStats stats = eggg.stats();
+        assertEquals(0, stats.getTypeEgggStats().getHitCount() + stats.getTypeEgggStats().getMissCount());
+        assertEquals(1, stats.getClassEgggStats().getEntryCount());
+    }
+
+    @Test
+    public void testRebuiltTypeEgggHitsClassCache() {
+        Eggg eggg = new Eggg();
+        java.lang.reflect.Type listType = new GenericResolver.ParameterizedTypeImpl(List.class, new java.lang.reflect.Type[]{UserModel.class});
+
+        ClassEggg c1 = eggg.getClassEggg(UserModel.class);
+        ClassEggg l1 = eggg.getClassEggg(listType);
+
+        for (int i = 0; i < 10; i++) {
+            //重建的 TypeEggg（如软引用被回收后，或 newTypeEggg）
+            TypeEggg t1 = eggg.newTypeEggg(UserModel.class);
+            TypeEggg t2 = eggg.newTypeEggg(listType);
+
+            assertEquals(eggg.getTypeEggg(UserModel.class), t1);
+            assertEquals(eggg.getTypeEggg(UserModel.class).hashCode(), t1.hashCode());
+
+            assertSame(c1, eggg.getClassEggg(t1));
+            assertSame(l1, eggg.getClassEggg(t2));
+        }
+
+        //没有重复条目
+        assertEquals(2, eggg.stats().getClassEgggStats().getEntryCount());
+
+        //不同 Eggg 的不相等
+        assertNotEquals(new Eggg().getTypeEggg(UserModel.class), eggg.getTypeEggg(UserModel.class));
+    }
+
+    @Test
+    public void testBuildCountIsSingleFlight() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+        Eggg eggg = new Eggg().withDigestHandler((classEggg, source, def) -> {
+            if (source == classEggg && classEggg.getType() == UserModel.class) {
+                builds.incrementAndGet();
+                sleep(50); //拉长构建时间，让其它线程进入等待
+            }
+            return def;
+        });
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ClassEggg>> futures = new CopyOnWriteArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return eggg.getClassEggg(UserModel.class);
+                }));
+            }
+
+            start.countDown();
+
+            ClassEggg first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ClassEggg> f1 : futures) {
+                assertSame(first, f1.get(10, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, builds.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNestedBuildOutsideBinLock() {
+        //构建期间获取其它类型（构建不在缓存的桶锁内，不会 Recursive update 或死锁）
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong);
+        eggg.withDigestHandler((classEggg, source, def) -> {
+            if (source instanceof FieldEggg) {
+                eggg.getClassEggg(((FieldEggg) source).getTypeEggg());
+            }
+            return def;
+        });
+
+        ClassEggg c1 = eggg.getClassEggg(UserModel.class);
+        assertSame(c1, eggg.getClassEggg(UserModel.class));
+        assertTrue(eggg.stats().getClassEgggStats().getEntryCount() > 1);
+    }
+
+    @Test
+    public void testBuildErrorNotStuck() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Eggg eggg = new Eggg().withDigestHandler((classEggg, source, def) -> {
+            if (source == classEggg && classEggg.getType() == UserModel.class && calls.incrementAndGet() == 1) {
+                sleep(50);
+                throw new IllegalStateException("test");
+            }
+            return def;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ClassEggg> f1 = executor.submit(() -> eggg.getClassEggg(UserModel.class));
+            Future<ClassEggg> f2 = executor.submit(() -> eggg.getClassEggg(UserModel.class));
+
+            int failed = 0;
+            for (Future<ClassEggg> f : new Future[]{f1, f2}) {
+                try {
+                    assertNotNull(f.get(10, TimeUnit.SECONDS));
+                } catch (ExecutionException ex) {
+                    assertInstanceOf(IllegalStateException.class, ex.getCause());
+                    failed++;
+                }
+            }
+
+            assertTrue(failed >= 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //失败后不会卡住，可以重新构建
+        assertNotNull(eggg.getClassEggg(UserModel.class));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class TypeRef<T> {
+    }
+}
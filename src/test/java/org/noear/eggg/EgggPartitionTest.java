@@ -0,0 +1,158 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+import org.noear.eggg.model.UserModel;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 类加载器分区测试
+ */
+public class EgggPartitionTest {
+    private static URLClassLoader newModuleLoader() {
+        URL url = UserModel.class.getProtectionDomain().getCodeSource().getLocation();
+        //父级不含测试类路径（模拟热部署模块）
+        return new URLClassLoader(new URL[]{url}, ClassLoader.getSystemClassLoader().getParent());
+    }
+
+    @Test
+    public void testAnchorOf() throws Exception {
+        try (URLClassLoader loader = newModuleLoader()) {
+            Class<?> moduleClass = loader.loadClass(UserModel.class.getName());
+            assertNotSame(UserModel.class, moduleClass);
+
+            Type type = new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{moduleClass});
+            assertSame(moduleClass, EgggPartition.anchorOf(type));
+            assertSame(String.class, EgggPartition.anchorOf(String.class));
+        }
+    }
+
+    @Test
+    public void testAnchorOfSiblings() throws Exception {
+        try (URLClassLoader loader1 = newModuleLoader(); URLClassLoader loader2 = newModuleLoader()) {
+            Class<?> class1 = loader1.loadClass(UserModel.class.getName());
+            Class<?> class2 = loader2.loadClass(UserModel.class.getName());
+
+            //兄弟模块互不相关：没有锚点（放在弱引用的分区）
+            assertNull(EgggPartition.anchorOf(new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{class1, class2})));
+            //与共享类加载器的类组合时，取模块的类
+            assertSame(class2, EgggPartition.anchorOf(new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{UserModel.class, class2})));
+
+            Eggg eggg = new Eggg();
+            Type type = new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{class1, class2});
+            TypeEggg typeEggg = eggg.getTypeEggg(type);
+            assertSame(Map.class, typeEggg.getType());
+            //还被引用时命中缓存（不会每次重建）
+            assertSame(typeEggg, eggg.getTypeEggg(type));
+            ClassEggg classEggg = eggg.getClassEggg(typeEggg);
+            assertSame(classEggg, eggg.getClassEggg(type));
+        }
+    }
+
+    @Test
+    public void testSiblingLoadersAreCollected() throws Exception {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong);
+        List<Object> alive = new ArrayList<>();
+        List<WeakReference<ClassLoader>> loaderRefs = loadSiblingsIntoEggg(eggg, alive);
+
+        //模块 1 还在时，模块 2 卸载后可以回收（不被模块 1 分区里的条目钉住）
+        alive.remove(loaderRefs.get(1).get());
+        awaitCollected(loaderRefs.get(1));
+        assertNull(loaderRefs.get(1).get(), "module class loader 2 is still reachable");
+        assertNotNull(loaderRefs.get(0).get());
+
+        alive.clear();
+        awaitCollected(loaderRefs.get(0));
+        assertNull(loaderRefs.get(0).get(), "module class loader 1 is still reachable");
+    }
+
+    @Test
+    public void testEvictOnlyOnePartition() throws Exception {
+        Eggg eggg = new Eggg();
+
+        try (URLClassLoader loader = newModuleLoader()) {
+            Class<?> moduleClass = loader.loadClass(UserModel.class.getName());
+            Type moduleListType = new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{moduleClass});
+            Type appListType = new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{UserModel.class});
+
+            TypeEggg module1 = eggg.getTypeEggg(moduleClass);
+            TypeEggg moduleList1 = eggg.getTypeEggg(moduleListType);
+            TypeEggg app1 = eggg.getTypeEggg(UserModel.class);
+            TypeEggg appList1 = eggg.getTypeEggg(appListType);
+
+            assertSame(module1, eggg.getTypeEggg(moduleClass));
+            assertSame(moduleList1, eggg.getTypeEggg(moduleListType));
+
+            eggg.evict(loader);
+
+            assertNotSame(module1, eggg.getTypeEggg(moduleClass));
+            assertNotSame(moduleList1, eggg.getTypeEggg(moduleListType));
+
+            //其它分区不受影响
+            assertSame(app1, eggg.getTypeEggg(UserModel.class));
+            assertSame(appList1, eggg.getTypeEggg(appListType));
+        }
+    }
+
+    @Test
+    public void testUnloadedLoaderIsCollected() throws Exception {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong);
+        WeakReference<ClassLoader> loaderRef = loadIntoEggg(eggg);
+
+        for (int i = 0; i < 50 && loaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(loaderRef.get(), "module class loader is still reachable");
+
+        //其它缓存依然可用
+        assertNotNull(eggg.getClassEggg(UserModel.class));
+    }
+
+    private static void awaitCollected(WeakReference<?> ref) throws InterruptedException {
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+    }
+
+    private static List<WeakReference<ClassLoader>> loadSiblingsIntoEggg(Eggg eggg, List<Object> alive) throws Exception {
+        URLClassLoader loader1 = newModuleLoader();
+        URLClassLoader loader2 = newModuleLoader();
+        Class<?> class1 = loader1.loadClass(UserModel.class.getName());
+        Class<?> class2 = loader2.loadClass(UserModel.class.getName());
+
+        eggg.getClassEggg(class1);
+        eggg.getClassEggg(class2);
+        eggg.getClassEggg(new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{class1, class2}));
+        eggg.getClassEggg(new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{class2, class1}));
+
+        loader1.close();
+        loader2.close();
+        alive.add(loader1);
+        alive.add(loader2);
+        return Arrays.asList(new WeakReference<>(loader1), new WeakReference<>(loader2));
+    }
+
+    private static WeakReference<ClassLoader> loadIntoEggg(Eggg eggg) throws Exception {
+        URLClassLoader loader = newModuleLoader();
+        Class<?> moduleClass = loader.loadClass(UserModel.class.getName());
+
+        eggg.getClassEggg(moduleClass);
+        eggg.getClassEggg(new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{moduleClass}));
+        eggg.getClassEggg(UserModel.class);
+
+        loader.close();
+        return new WeakReference<>(loader);
+    }
+}
@@ -0,0 +1,85 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+import org.noear.eggg.model.UserModel;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 预加载测试
+ */
+public class EgggPreloadTest {
+    @Test
+    public void testPreload() throws Exception {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong).withStats(true);
+
+        eggg.preload(Arrays.asList(OrderModel.class, UserModel.class)).get(10, TimeUnit.SECONDS);
+
+        long loads = eggg.stats().getClassEgggStats().getLoadCount();
+        assertTrue(loads >= 4, "loads: " + loads); //OrderModel, UserModel, ItemModel, SkuModel
+
+        //预加载后直接命中
+        eggg.getClassEggg(ItemModel.class);
+        eggg.getClassEggg(SkuModel.class);
+        eggg.getClassEggg(OrderModel.class);
+        assertEquals(loads, eggg.stats().getClassEgggStats().getLoadCount());
+    }
+
+    @Test
+    public void testPreloadDedup() throws Exception {
+        Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong).withStats(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            eggg.preload(Arrays.asList(OrderModel.class, ItemModel.class, ItemModel.class), executor)
+                    .get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        //SkuModel 被多处引用，只构建一次
+        assertEquals(eggg.stats().getClassEgggStats().getEntryCount(),
+                eggg.stats().getClassEgggStats().getLoadCount());
+    }
+
+    @Test
+    public void testPreloadEmpty() throws Exception {
+        new Eggg().preload(Collections.emptyList()).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPreloadError() {
+        Eggg eggg = new Eggg();
+
+        assertThrows(ExecutionException.class, () -> eggg.preload(Arrays.asList(UserModel.class), r -> {
+            throw new RejectedExecutionException("test");
+        }).get(1, TimeUnit.SECONDS));
+    }
+
+    public static class OrderModel {
+        private UserModel user;
+        private List<ItemModel> items;
+        private Map<String, SkuModel> skus;
+    }
+
+    public static class ItemModel {
+        private SkuModel sku;
+        private SkuModel[] history;
+
+        public ItemModel(SkuModel sku) {
+            this.sku = sku;
+        }
+    }
+
+    public static class SkuModel {
+        private String code;
+        private long price;
+    }
+}
@@ -0,0 +1,85 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+import org.noear.eggg.model.MyList;
+import org.noear.eggg.model.UserModel;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 包扫描测试
+ */
+public class EgggScannerTest {
+    @Test
+    public void testScanDirectory() {
+        List<Class<?>> classes = EgggScanner.scan("org.noear.eggg.model", getClass().getClassLoader(), null);
+
+        assertTrue(classes.contains(UserModel.class));
+        assertTrue(classes.contains(MyList.class));
+    }
+
+    @Test
+    public void testScanFilter() {
+        List<Class<?>> classes = EgggScanner.scan("org.noear.eggg.model", getClass().getClassLoader(),
+                name -> name.endsWith("Model"));
+
+        assertEquals(Collections.singletonList(UserModel.class), classes);
+    }
+
+    @Test
+    public void testScanJar() throws Exception {
+        File jar = File.createTempFile("eggg-scan", ".jar");
+        jar.deleteOnExit();
+
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            for (Class<?> clz : Arrays.asList(UserModel.class, MyList.class)) {
+                String entryName = clz.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new JarEntry(entryName));
+                try (InputStream in = clz.getClassLoader().getResourceAsStream(entryName)) {
+                    byte[] buf = new byte[4096];
+                    int len;
+                    while ((len = in.read(buf)) > 0) {
+                        out.write(buf, 0, len);
+                    }
+                }
+                out.closeEntry();
+            }
+
+            //不通过过滤的类不能被加载（它也加载不了）
+            out.putNextEntry(new JarEntry("org/noear/eggg/model/Broken.class"));
+            out.write("broken".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        Set<String> loaded = Collections.synchronizedSet(new HashSet<>());
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, ClassLoader.getSystemClassLoader().getParent()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                loaded.add(name);
+                return super.loadClass(name, resolve);
+            }
+        }) {
+            Eggg eggg = new Eggg().withCache(EgggCache::strong, EgggCache::strong).withStats(true);
+
+            eggg.preloadPackage("org.noear.eggg.model", loader, name -> name.endsWith("Broken") == false)
+                    .get(10, TimeUnit.SECONDS);
+
+            assertTrue(loaded.contains(UserModel.class.getName()));
+            assertFalse(loaded.contains("org.noear.eggg.model.Broken"));
+            assertTrue(eggg.stats().getClassEgggStats().getLoadCount() >= 2);
+
+            eggg.evict(loader);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 字段访问模式测试
+ */
+public class FieldAccessModeTest {
+    private static final FieldAccessorFactory[] FACTORIES = {FieldAccessorFactory.varHandle(), FieldAccessorFactory.generate(), FieldAccessorFactory.methodHandle(), FieldAccessorFactory.reflect()};
+
+    @Test
+    public void testVarHandleAvailable() throws Exception {
+        FieldAccessor accessor = FieldAccessorFactory.varHandle().create(ModeModel.class.getDeclaredField("name"));
+
+        if (JavaUtil.JAVA_MAJOR_VERSION >= 9) {
+            //多版本 jar 里的 Java 9 实现
+            assertEquals("org.noear.eggg.FieldAccessorVarHandle", accessor.getClass().getName());
+        } else {
+            assertInstanceOf(FieldAccessorReflect.class, accessor);
+        }
+    }
+
+    @Test
+    public void testModes() {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            ClassEggg classEggg = new Eggg().withFieldAccessorFactory(factory).getClassEggg(ModeModel.class);
+            ModeModel model = new ModeModel();
+
+            for (FieldAccessMode mode : FieldAccessMode.values()) {
+                FieldEggg name = classEggg.getFieldEgggByName("name");
+                name.setValue(model, "a" + mode, mode);
+                assertEquals("a" + mode, name.getValue(model, mode));
+
+                FieldEggg count = classEggg.getFieldEgggByName("count");
+                count.setValue(model, mode.ordinal(), mode);
+                assertEquals(mode.ordinal(), count.getValue(model, mode));
+
+                FieldEggg total = classEggg.getFieldEgggByName("total");
+                total.setValue(null, (long) mode.ordinal(), mode);
+                assertEquals((long) mode.ordinal(), total.getValue(null, mode));
+
+                //只读字段：FieldEggg 不设置
+                FieldEggg version = classEggg.getFieldEgggByName("version");
+                version.setValue(model, 9, mode);
+                assertEquals(1, version.getValue(model, mode));
+            }
+        }
+    }
+
+    @Test
+    public void testSameAsReflect() throws Exception {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            FieldAccessor count = factory.create(ModeModel.class.getDeclaredField("count"));
+            FieldAccessor total = factory.create(ModeModel.class.getDeclaredField("total"));
+            FieldAccessor version = factory.create(ModeModel.class.getDeclaredField("version"));
+
+            for (FieldAccessMode mode : FieldAccessMode.values()) {
+                //与 Field:set 一样支持放宽转换
+                total.set(null, 7, mode);
+                assertEquals(7L, total.get(null, mode));
+
+                ModeModel model = new ModeModel();
+                version.set(model, 2, mode);
+                assertEquals(2, version.get(model, mode));
+
+                assertThrows(IllegalArgumentException.class, () -> count.set(new ModeModel(), "x", mode));
+                assertThrows(IllegalArgumentException.class, () -> count.set(new ModeModel(), null, mode));
+                assertThrows(IllegalArgumentException.class, () -> count.get("x", mode));
+                assertThrows(NullPointerException.class, () -> count.get(null, mode));
+            }
+        }
+    }
+
+    @Test
+    public void testOpaqueVisibility() throws Exception {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            FieldEggg stop = new Eggg().withFieldAccessorFactory(factory).getClassEggg(ModeModel.class).getFieldEgggByName("stop");
+            ModeModel model = new ModeModel();
+            CountDownLatch done = new CountDownLatch(1);
+
+            Thread reader = new Thread(() -> {
+                //非 volatile 字段：按不透明读取，循环不会被优化成死循环
+                while (Boolean.FALSE.equals(stop.getValue(model, FieldAccessMode.OPAQUE))) {
+                    Thread.yield();
+                }
+                done.countDown();
+            });
+            reader.setDaemon(true);
+            reader.start();
+
+            stop.setValue(model, true, FieldAccessMode.VOLATILE);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static class ModeModel {
+        private static long total;
+
+        private final int version = Integer.valueOf(1);
+        private String name;
+        private int count;
+        private boolean stop;
+    }
+}
@@ -0,0 +1,173 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 字段访问器测试
+ */
+public class FieldAccessorTest {
+    private static final FieldAccessorFactory[] FACTORIES = {FieldAccessorFactory.generate(), FieldAccessorFactory.methodHandle(), FieldAccessorFactory.reflect()};
+
+    @Test
+    public void testDefaultIsGenerated() {
+        ClassEggg classEggg = new Eggg().getClassEggg(AccessModel.class);
+
+        for (FieldEggg fe : classEggg.getAllFieldEgggs()) {
+            if (JavaUtil.JAVA_MAJOR_VERSION >= 15) {
+                assertTrue(fe.getAccessor().getClass().getName().contains("$$EgggAccessor"), fe.getName());
+            } else {
+                //Java 15 以下不生成，退回方法句柄
+                assertInstanceOf(FieldAccessorMethodHandle.class, fe.getAccessor(), fe.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testGetAndSet() {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            ClassEggg classEggg = new Eggg().withFieldAccessorFactory(factory).getClassEggg(AccessModel.class);
+            AccessModel model = new AccessModel();
+
+            FieldEggg name = classEggg.getFieldEgggByName("name");
+            name.setValue(model, "a");
+            assertEquals("a", name.getValue(model));
+            assertEquals("a", model.name);
+
+            assertSetAndGet(classEggg, model, "age", 12);
+            assertSetAndGet(classEggg, model, "id", 2L);
+            assertSetAndGet(classEggg, model, "flag", true);
+            assertSetAndGet(classEggg, model, "rate", 1.5D);
+            assertSetAndGet(classEggg, model, "ratio", 0.5F);
+            assertSetAndGet(classEggg, model, "b", (byte) 1);
+            assertSetAndGet(classEggg, model, "s", (short) 2);
+            assertSetAndGet(classEggg, model, "c", 'x');
+            assertSetAndGet(classEggg, model, "tags", new String[]{"a"});
+            assertSetAndGet(classEggg, model, "matrix", new int[][]{{1}});
+            assertSetAndGet(classEggg, model, "any", 1);
+            assertSetAndGet(classEggg, model, "inner", new Inner());
+            assertSetAndGet(classEggg, model, "emptyList", Collections.emptyList());
+
+            FieldEggg count = classEggg.getFieldEgggByName("count");
+            count.setValue(null, 3L);
+            assertEquals(3L, count.getValue(null));
+            assertEquals(3L, count.getValue(model));
+
+            //只读字段：FieldEggg 不设置
+            FieldEggg version = classEggg.getFieldEgggByName("version");
+            version.setValue(model, 9);
+            assertEquals(1, version.getValue(model));
+
+            //继承的字段
+            SubModel sub = new SubModel();
+            classEggg = new Eggg().withFieldAccessorFactory(factory).getClassEggg(SubModel.class);
+            classEggg.getFieldEgggByName("name").setValue(sub, "b");
+            assertEquals("b", ((AccessModel) sub).name);
+        }
+    }
+
+    private static void assertSetAndGet(ClassEggg classEggg, Object model, String name, Object value) {
+        FieldEggg fe = classEggg.getFieldEgggByName(name);
+        fe.setValue(model, value);
+        assertSame(value.getClass(), fe.getValue(model).getClass());
+        if (value.getClass().isArray()) {
+            assertSame(value, fe.getValue(model));
+        } else {
+            assertEquals(value, fe.getValue(model));
+        }
+    }
+
+    @Test
+    public void testFinalFieldByAccessor() throws Exception {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            AccessModel model = new AccessModel();
+            FieldAccessor accessor = factory.create(AccessModel.class.getDeclaredField("version"));
+
+            accessor.set(model, 2);
+            assertEquals(2, accessor.get(model));
+        }
+    }
+
+    @Test
+    public void testSameAsReflect() throws Exception {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            FieldAccessor age = factory.create(AccessModel.class.getDeclaredField("age"));
+            FieldAccessor id = factory.create(AccessModel.class.getDeclaredField("id"));
+            FieldAccessor name = factory.create(AccessModel.class.getDeclaredField("name"));
+
+            //与 Field:set 一样支持放宽转换
+            AccessModel model = new AccessModel();
+            id.set(model, 7);
+            assertEquals(7L, model.id);
+
+            assertThrows(IllegalArgumentException.class, () -> age.set(new AccessModel(), "x"));
+            assertThrows(IllegalArgumentException.class, () -> age.set(new AccessModel(), null));
+            assertThrows(IllegalArgumentException.class, () -> name.set(new AccessModel(), 1));
+            assertThrows(IllegalArgumentException.class, () -> age.get("x"));
+            assertThrows(NullPointerException.class, () -> age.get(null));
+            assertThrows(NullPointerException.class, () -> age.set(null, 1));
+        }
+    }
+
+    @Test
+    public void testMethodHandleIsUsed() throws Exception {
+        //Java 15 以下的默认访问（这里直接创建）
+        for (String name : new String[]{"name", "age", "version", "count"}) {
+            assertInstanceOf(FieldAccessorMethodHandle.class, FieldAccessorFactory.methodHandle().create(AccessModel.class.getDeclaredField(name)), name);
+        }
+
+        FieldAccessor age = FieldAccessorFactory.methodHandle().create(AccessModel.class.getDeclaredField("age"));
+        AccessModel model = new AccessModel();
+        age.setInt(model, 5);
+        assertEquals(5, age.getInt(model));
+        assertEquals(5L, age.getLong(model));
+        assertEquals(5, model.age);
+    }
+
+    @Test
+    public void testCustomFactory() {
+        AtomicInteger created = new AtomicInteger();
+        Eggg eggg = new Eggg().withFieldAccessorFactory(field -> {
+            created.incrementAndGet();
+            return FieldAccessorFactory.reflect().create(field);
+        });
+
+        FieldEggg name = eggg.getClassEggg(AccessModel.class).getFieldEgggByName("name");
+        assertEquals(0, created.get()); //首次使用时才创建
+
+        name.getValue(new AccessModel());
+        name.getValue(new AccessModel());
+        assertEquals(1, created.get());
+    }
+
+    private static class AccessModel {
+        private static long count;
+
+        private final int version = Integer.valueOf(1);
+        private String name;
+        int age;
+        long id;
+        boolean flag;
+        double rate;
+        float ratio;
+        byte b;
+        short s;
+        char c;
+        String[] tags;
+        int[][] matrix;
+        Object any;
+        Inner inner;
+        List<?> emptyList;
+    }
+
+    private static class SubModel extends AccessModel {
+    }
+
+    private static class Inner {
+    }
+}
@@ -0,0 +1,82 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 泛型绑定测试
+ */
+public class GenericBindingsTest {
+    public static class Pair<K, V> {
+        public K key;
+        public V value;
+
+        public <V> V convert(V input) {
+            return input;
+        }
+    }
+
+    /**
+     * 本级的 V 与父类的 V 同名
+     */
+    public static class NamedPair<V> extends Pair<String, Long> {
+        public V extra;
+    }
+
+    @Test
+    public void testLookup() {
+        GenericBindings bindings = GenericBindings.of(Pair.class, new Type[]{String.class, Long.class});
+        TypeVariable<?>[] vars = Pair.class.getTypeParameters();
+
+        assertSame(String.class, bindings.get(vars[0]));
+        assertSame(Long.class, bindings.get(vars[1]));
+        assertNull(bindings.get(NamedPair.class.getTypeParameters()[0]));
+
+        //兼容的 Map 视图
+        assertSame(String.class, bindings.get("K"));
+        assertSame(Long.class, bindings.get((Object) "V"));
+        assertEquals(2, bindings.size());
+        assertEquals(Arrays.asList(String.class, Long.class), new ArrayList<>(bindings.values()));
+
+        Map<String, Type> expected = new LinkedHashMap<>();
+        expected.put("K", String.class);
+        expected.put("V", Long.class);
+        assertEquals(expected, bindings);
+
+        assertThrows(UnsupportedOperationException.class, () -> bindings.put("K", Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> GenericBindings.of(Pair.class, new Type[]{String.class}));
+        assertSame(GenericBindings.EMPTY, GenericBindings.of(String.class, new Type[0]));
+    }
+
+    @Test
+    public void testSameNameAtDifferentLevels() {
+        Eggg eggg = new Eggg();
+        ClassEggg classEggg = eggg.getClassEggg(NamedPair.class);
+
+        assertTrue(eggg.getTypeEggg(NamedPair.class).getGenericInfo() instanceof GenericBindings);
+
+        //父类的变量被绑定
+        assertEquals(String.class, classEggg.getFieldEgggByName("key").getGenericType());
+        assertEquals(Long.class, classEggg.getFieldEgggByName("value").getGenericType());
+
+        //本级同名的 V 不能被父类的 V 替换
+        assertTrue(classEggg.getFieldEgggByName("extra").getGenericType() instanceof TypeVariable);
+    }
+
+    @Test
+    public void testMethodVariableNotConfused() throws Exception {
+        Eggg eggg = new Eggg();
+        TypeEggg owner = eggg.getTypeEggg(new GenericResolver.ParameterizedTypeImpl(Pair.class, new Type[]{String.class, Long.class}));
+
+        Type returnType = Pair.class.getMethod("convert", Object.class).getGenericReturnType();
+
+        //方法级的 V 不是类级的 V
+        assertSame(returnType, eggg.reviewType(returnType, owner.getGenericInfo()));
+        assertEquals(Arrays.asList(String.class, Long.class), eggg.findGenericList(owner, Pair.class));
+    }
+}
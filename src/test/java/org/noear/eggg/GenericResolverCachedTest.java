@@ -0,0 +1,96 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 带缓存的泛型分析器测试
+ */
+public class GenericResolverCachedTest {
+    public static class Box<T> {
+        public T value;
+        public List<T> list;
+        public Map<String, ? extends T> map;
+        public T[] array;
+    }
+
+    public static class StringBox extends Box<String> {
+    }
+
+    public static class Node<T extends Comparable<T>> {
+        public T value;
+    }
+
+    public static class IntNode extends Node<Integer> {
+    }
+
+    @Test
+    public void testSameAsDefault() {
+        Eggg cachedEggg = new Eggg().withGenericResolver(new GenericResolverCached());
+        Eggg defaultEggg = new Eggg();
+
+        for (Class<?> clazz : new Class<?>[]{StringBox.class, IntNode.class}) {
+            ClassEggg c1 = cachedEggg.getClassEggg(clazz);
+            ClassEggg c2 = defaultEggg.getClassEggg(clazz);
+
+            for (FieldEggg f1 : c1.getAllFieldEgggs()) {
+                FieldEggg f2 = c2.getFieldEgggByName(f1.getName());
+                assertEquals(f2.getGenericType(), f1.getGenericType(), f1.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        GenericResolverCached resolver = new GenericResolverCached();
+        Map<String, Type> genericInfo = Collections.unmodifiableMap(Collections.singletonMap("T", String.class));
+        Type listType = Box.class.getField("list").getGenericType();
+
+        Type t1 = resolver.reviewType(listType, genericInfo);
+        Type t2 = resolver.reviewType(listType, genericInfo);
+
+        assertSame(t1, t2);
+        assertEquals(new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{String.class}), t1);
+        assertEquals(1, resolver.size());
+
+        //内容相同但实例不同的泛型信息，分开缓存
+        Map<String, Type> genericInfo2 = new HashMap<>(genericInfo);
+        assertEquals(t1, resolver.reviewType(listType, genericInfo2));
+        assertEquals(2, resolver.size());
+
+        resolver.clear();
+        assertEquals(0, resolver.size());
+    }
+
+    @Test
+    public void testRecursiveBound() throws Exception {
+        GenericResolverCached resolver = new GenericResolverCached();
+        Type valueType = Node.class.getField("value").getGenericType();
+
+        //自引用的变量（T -> T）不会死循环
+        Map<String, Type> genericInfo = Collections.singletonMap("T", valueType);
+        assertSame(valueType, resolver.reviewType(valueType, genericInfo));
+    }
+
+    @Test
+    public void testBindingIsWeak() throws Exception {
+        GenericResolverCached resolver = new GenericResolverCached();
+        Type listType = Box.class.getField("list").getGenericType();
+
+        resolver.reviewType(listType, new HashMap<>(Collections.singletonMap("T", String.class)));
+
+        for (int i = 0; i < 50 && resolver.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, resolver.size());
+    }
+}
@@ -0,0 +1,122 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分析范围测试
+ */
+public class IntrospectionProfileTest {
+    public static class ProfileModel {
+        private int id;
+        private String name;
+
+        public ProfileModel() {
+        }
+
+        public ProfileModel(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getFullName() {
+            return name;
+        }
+
+        public void rename(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testFieldsOnly() throws Exception {
+        ClassEgggLazyTest.CountingReflectHandler handler = new ClassEgggLazyTest.CountingReflectHandler();
+        Eggg eggg = new Eggg().withProfile(IntrospectionProfile.FIELDS_ONLY).withReflectHandler(handler);
+
+        ClassEggg classEggg = eggg.getClassEggg(ProfileModel.class);
+
+        assertEquals(0, handler.methods.get());
+        assertEquals(0, handler.declaredMethods.get());
+
+        assertEquals(2, classEggg.getAllFieldEgggs().size());
+        assertEquals(2, classEggg.getPropertyEgggs().size());
+        assertNotNull(classEggg.getPropertyEgggByName("id").getFieldEggg());
+        assertNull(classEggg.getPropertyEgggByName("id").getGetterEggg());
+        assertNull(classEggg.getPropertyEgggByName("fullName"));
+
+        assertTrue(classEggg.getPublicMethodEgggs().isEmpty());
+        assertTrue(classEggg.getDeclaredMethodEgggs().isEmpty());
+        assertNull(classEggg.findMethodEgggOrNull("rename", String.class));
+
+        //只构建创造器
+        assertEquals(0, classEggg.getCreator().getParamCount());
+        assertNull(classEggg.findConstrEgggOrNull(int.class, String.class));
+        assertNotNull(classEggg.getCreator().newInstance());
+    }
+
+    @Test
+    public void testPropertiesOnly() throws Exception {
+        ClassEgggLazyTest.CountingReflectHandler handler = new ClassEgggLazyTest.CountingReflectHandler();
+        Eggg eggg = new Eggg().withProfile(IntrospectionProfile.PROPERTIES_ONLY).withReflectHandler(handler);
+
+        ClassEggg classEggg = eggg.getClassEggg(ProfileModel.class);
+
+        assertEquals(1, handler.methods.get());
+        assertEquals(0, handler.declaredMethods.get());
+
+        assertEquals(3, classEggg.getPropertyEgggs().size());
+        assertNotNull(classEggg.getPropertyEgggByName("id").getGetterEggg());
+        assertNotNull(classEggg.getPropertyEgggByName("id").getSetterEggg());
+        assertNotNull(classEggg.getPropertyEgggByName("fullName").getGetterEggg());
+
+        assertTrue(classEggg.getPublicMethodEgggs().isEmpty());
+        assertNull(classEggg.findMethodEgggOrNull("rename", String.class));
+        assertEquals(0, classEggg.getCreator().getParamCount());
+    }
+
+    @Test
+    public void testCreatorSelection() throws Exception {
+        Eggg eggg = new Eggg()
+                .withProfile(IntrospectionProfile.FIELDS_ONLY)
+                .withCreatorMatcher((e, s) -> s.getParameterCount() == 2);
+
+        ClassEggg classEggg = eggg.getClassEggg(ProfileModel.class);
+
+        assertTrue(classEggg.getCreator().isCreator());
+        assertEquals(2, classEggg.getCreator().getParamCount());
+        assertNull(classEggg.findConstrEgggOrNull());
+    }
+
+    @Test
+    public void testFull() throws Exception {
+        Eggg eggg = new Eggg();
+        assertEquals(IntrospectionProfile.FULL, eggg.getProfile());
+
+        ClassEggg classEggg = eggg.getClassEggg(ProfileModel.class);
+
+        assertNotNull(classEggg.findMethodEgggOrNull("rename", String.class));
+        assertNotNull(classEggg.findConstrEgggOrNull(int.class, String.class));
+        assertNotNull(classEggg.findConstrEgggOrNull());
+    }
+
+    @Test
+    public void testWithLazy() {
+        ClassEgggLazyTest.CountingReflectHandler handler = new ClassEgggLazyTest.CountingReflectHandler();
+        Eggg eggg = new Eggg().withLazy(true).withProfile(IntrospectionProfile.PROPERTIES_ONLY).withReflectHandler(handler);
+
+        ClassEggg classEggg = eggg.getClassEggg(ProfileModel.class);
+        assertEquals(0, handler.methods.get());
+
+        assertEquals(3, classEggg.getPropertyEgggs().size());
+        assertEquals(1, handler.methods.get());
+    }
+}
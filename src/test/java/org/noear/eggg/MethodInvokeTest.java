@@ -0,0 +1,225 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 方法调用测试（通用调用与固定参数调用）
+ */
+public class MethodInvokeTest {
+    private final Eggg eggg = new Eggg();
+
+    private MethodEggg methodEggg(String name) {
+        ClassEggg classEggg = eggg.getClassEggg(InvokeModel.class);
+
+        for (MethodEggg me : classEggg.getPublicMethodEgggs()) {
+            if (me.getName().equals(name)) {
+                return me;
+            }
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+
+    @Test
+    public void testFixedArity() throws Throwable {
+        InvokeModel model = new InvokeModel();
+
+        assertEquals("", methodEggg("join0").invoke0(model));
+        assertEquals("a", methodEggg("join1").invoke1(model, "a"));
+        assertEquals("ab", methodEggg("join2").invoke2(model, "a", "b"));
+        assertEquals("abc", methodEggg("join3").invoke3(model, "a", "b", "c"));
+        assertEquals("abcd", methodEggg("join4").invoke4(model, "a", "b", "c", "d"));
+        assertEquals("abcde", methodEggg("join5").invoke5(model, "a", "b", "c", "d", "e"));
+
+        //与通用调用一致
+        assertEquals("abcde", methodEggg("join5").invoke(model, "a", "b", "c", "d", "e"));
+        assertEquals("abcdef", methodEggg("join6").invoke(model, "a", "b", "c", "d", "e", "f"));
+        assertEquals("", methodEggg("join0").invoke(model));
+        assertEquals("", methodEggg("join0").invoke(model, (Object[]) null));
+    }
+
+    @Test
+    public void testPrimitiveAndVoid() throws Throwable {
+        InvokeModel model = new InvokeModel();
+
+        assertEquals(3, (int) methodEggg("sum").invoke2(model, 1, 2));
+        assertEquals(3, (int) methodEggg("sum").invoke(model, 1, 2));
+
+        assertNull(methodEggg("touch").invoke1(model, 5L));
+        assertEquals(5L, model.touched);
+    }
+
+    @Test
+    public void testStaticAndVarargs() throws Throwable {
+        //静态方法忽略目标对象
+        assertEquals("s:a", methodEggg("echo").invoke1(null, "a"));
+        assertEquals("s:b", methodEggg("echo").invoke1(new InvokeModel(), "b"));
+
+        //可变参数按数组传（与 Method:invoke 一致）
+        MethodEggg count = methodEggg("count");
+        assertEquals(2, (int) count.invoke1(null, new String[]{"a", "b"}));
+        assertEquals(0, (int) count.invoke(null, (Object) new String[0]));
+    }
+
+    @Test
+    public void testErrors() {
+        InvokeModel model = new InvokeModel();
+
+        //参数个数不对
+        assertThrows(IllegalArgumentException.class, () -> methodEggg("join2").invoke1(model, "a"));
+        assertThrows(IllegalArgumentException.class, () -> methodEggg("join2").invoke(model, "a", "b", "c"));
+
+        //参数类型不对
+        assertThrows(ClassCastException.class, () -> methodEggg("join1").invoke1(model, 1));
+
+        //方法内的异常原样抛出
+        assertThrows(IOException.class, () -> methodEggg("fail").invoke0(model));
+    }
+
+    @Test
+    public void testNonPublic() throws Throwable {
+        ClassEggg classEggg = eggg.getClassEggg(HiddenModel.class);
+        HiddenModel model = new HiddenModel();
+
+        for (MethodEggg me : classEggg.getDeclaredMethodEgggs()) {
+            //非公有的方法也走句柄调用
+            assertNotNull(me.getInvoker(), me.getName());
+
+            switch (me.getName()) {
+                case "privateHook":
+                    me.invoke1(model, "a");
+                    assertEquals("a", model.value);
+                    break;
+                case "packageHook":
+                    assertEquals("p:a", me.invoke0(model));
+                    assertEquals("p:a", me.invoke(model));
+                    break;
+                case "protectedSum":
+                    assertEquals(3, (int) me.invoke2(model, 1, 2));
+                    break;
+                case "privateStatic":
+                    assertEquals("s:b", me.invoke1(null, "b"));
+                    break;
+            }
+        }
+
+        //属性方法（私有的 setter）
+        PropertyMethodEggg setter = eggg.newPropertyMethodEggg(classEggg,
+                eggg.newMethodEggg(classEggg, HiddenModel.class.getDeclaredMethod("setValue", String.class)));
+        setter.setValue(model, "c");
+        assertEquals("c", model.value);
+
+        //没有私有查找时（Java 8 默认）：setAccessible 之后再 unreflect
+        MethodHandle handle = MethodLookup.unreflectAccessible(HiddenModel.class.getDeclaredMethod("privateHook", String.class));
+        handle.invoke(model, "d");
+        assertEquals("d", model.value);
+
+        handle = MethodLookup.unreflectAccessible(HiddenModel.class.getDeclaredMethod("privateStatic", String.class));
+        assertEquals("s:e", (String) handle.invoke("e"));
+    }
+
+    @Test
+    public void testNonPublicErrors() throws Throwable {
+        HiddenModel model = new HiddenModel();
+        Method method = HiddenModel.class.getDeclaredMethod("privateFail");
+        MethodEggg me = eggg.newMethodEggg(eggg.getClassEggg(HiddenModel.class), method);
+
+        //私有查找可用时（句柄调用）：方法内的异常原样抛出
+        assertNotNull(me.getInvoker());
+        assertThrows(IOException.class, () -> me.invoke0(model));
+        assertThrows(IOException.class, () -> me.invoke(model));
+
+        //没有私有查找时（setAccessible 之后再 unreflect）
+        MethodInvoker invoker = new MethodInvoker(MethodLookup.unreflectAccessible(method), false);
+        assertThrows(IOException.class, () -> invoker.invoke0(model));
+
+        //拿不到句柄时（反射调用）：同样原样抛出，不包装为 InvocationTargetException
+        assertThrows(IOException.class, () -> me.invokeReflect(model, new Object[0]));
+    }
+
+    private static class HiddenModel {
+        private String value;
+
+        private void privateHook(String value) {
+            this.value = value;
+        }
+
+        String packageHook() {
+            return "p:" + value;
+        }
+
+        protected int protectedSum(int a, int b) {
+            return a + b;
+        }
+
+        private static String privateStatic(String a) {
+            return "s:" + a;
+        }
+
+        private void privateFail() throws IOException {
+            throw new IOException("fail");
+        }
+
+        private void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class InvokeModel {
+        long touched;
+
+        public String join0() {
+            return "";
+        }
+
+        public String join1(String a) {
+            return a;
+        }
+
+        public String join2(String a, String b) {
+            return a + b;
+        }
+
+        public String join3(String a, String b, String c) {
+            return a + b + c;
+        }
+
+        public String join4(String a, String b, String c, String d) {
+            return a + b + c + d;
+        }
+
+        public String join5(String a, String b, String c, String d, String e) {
+            return a + b + c + d + e;
+        }
+
+        public String join6(String a, String b, String c, String d, String e, String f) {
+            return a + b + c + d + e + f;
+        }
+
+        public int sum(int a, int b) {
+            return a + b;
+        }
+
+        public void touch(long value) {
+            touched = value;
+        }
+
+        public static String echo(String a) {
+            return "s:" + a;
+        }
+
+        public static int count(String... args) {
+            return args.length;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail");
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -247,6 +249,35 @@ class MethodEgggAdditionalTest {
         assertEquals("methodHandleTest", result);
     }
 
+    @Test
+    void testDeclaredAndPublicShareMethodEggg() {
+        AtomicInteger digestCount = new AtomicInteger();
+        Eggg countingEggg = new Eggg().withDigestHandler((cw, s, ref) -> {
+            if (s instanceof MethodEggg && cw.getType() == MethodTestClass.class) {
+                digestCount.incrementAndGet();
+            }
+            return ref;
+        });
+
+        ClassEggg classEggg = countingEggg.getClassEggg(MethodTestClass.class);
+
+        for (MethodEggg declared : classEggg.getDeclaredMethodEgggs()) {
+            if (declared.isPublic()) {
+                assertTrue(classEggg.getPublicMethodEgggs().stream().anyMatch(m -> m == declared));
+            }
+            assertSame(declared, classEggg.findMethodEgggOrNew(declared.getMethod()));
+        }
+
+        //每个 Method 只构建一次（声明的 + 公有的，去重后）
+        long distinct = Stream.concat(
+                        classEggg.getDeclaredMethodEgggs().stream(),
+                        classEggg.getPublicMethodEgggs().stream())
+                .map(MethodEggg::getMethod)
+                .distinct()
+                .count();
+        assertEquals(distinct, digestCount.get());
+    }
+
 //    @Test
 //    void testMethodDeclaredFlag() throws Exception {
 //        class ParentClass {
@@ -0,0 +1,209 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 基本类型访问测试（不装箱）
+ */
+public class PrimitiveAccessTest {
+    private static final FieldAccessorFactory[] FACTORIES = {FieldAccessorFactory.varHandle(), FieldAccessorFactory.generate(), FieldAccessorFactory.methodHandle(), FieldAccessorFactory.reflect()};
+
+    @Test
+    public void testFields() {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            ClassEggg classEggg = new Eggg().withFieldAccessorFactory(factory).getClassEggg(PrimitiveModel.class);
+            PrimitiveModel model = new PrimitiveModel();
+
+            FieldEggg age = classEggg.getFieldEgggByName("age");
+            age.setInt(model, 12);
+            assertEquals(12, age.getInt(model));
+            assertEquals(12, model.age);
+
+            FieldEggg id = classEggg.getFieldEgggByName("id");
+            id.setLong(model, 2L);
+            assertEquals(2L, id.getLong(model));
+            assertEquals(2L, model.id);
+
+            FieldEggg rate = classEggg.getFieldEgggByName("rate");
+            rate.setDouble(model, 1.5D);
+            assertEquals(1.5D, rate.getDouble(model));
+            assertEquals(1.5D, model.rate);
+
+            FieldEggg flag = classEggg.getFieldEgggByName("flag");
+            flag.setBoolean(model, true);
+            assertTrue(flag.getBoolean(model));
+            assertTrue(model.flag);
+
+            //与装箱的读写一致
+            assertEquals(12, age.getValue(model));
+            age.setValue(model, 13);
+            assertEquals(13, age.getInt(model));
+
+            //静态字段
+            FieldEggg count = classEggg.getFieldEgggByName("count");
+            count.setLong(null, 3L);
+            assertEquals(3L, count.getLong(null));
+            assertEquals(3L, PrimitiveModel.count);
+
+            //只读字段：FieldEggg 不设置
+            FieldEggg version = classEggg.getFieldEgggByName("version");
+            version.setInt(model, 9);
+            assertEquals(1, version.getInt(model));
+        }
+    }
+
+    @Test
+    public void testWideningAndMismatch() throws Exception {
+        for (FieldAccessorFactory factory : FACTORIES) {
+            FieldAccessor age = factory.create(PrimitiveModel.class.getDeclaredField("age"));
+            FieldAccessor rate = factory.create(PrimitiveModel.class.getDeclaredField("rate"));
+            FieldAccessor boxed = factory.create(PrimitiveModel.class.getDeclaredField("boxed"));
+            PrimitiveModel model = new PrimitiveModel();
+            model.age = 7;
+
+            //与 Field:getLong、setInt 等一致：支持宽化转换
+            assertEquals(7L, age.getLong(model));
+            assertEquals(7D, age.getDouble(model));
+            rate.setInt(model, 2);
+            assertEquals(2D, model.rate);
+
+            //不能窄化，也不能拆箱
+            assertThrows(IllegalArgumentException.class, () -> rate.getInt(model), factory.toString());
+            assertThrows(IllegalArgumentException.class, () -> age.setLong(model, 1L), factory.toString());
+            assertThrows(IllegalArgumentException.class, () -> age.getBoolean(model), factory.toString());
+            assertThrows(IllegalArgumentException.class, () -> boxed.getInt(model), factory.toString());
+
+            //目标对象类型不对
+            assertThrows(IllegalArgumentException.class, () -> age.getInt("a"), factory.toString());
+            assertThrows(IllegalArgumentException.class, () -> age.setInt("a", 1), factory.toString());
+        }
+    }
+
+    @Test
+    public void testPropertyMethods() {
+        ClassEggg classEggg = new Eggg().getClassEggg(BeanModel.class);
+        BeanModel bean = new BeanModel();
+
+        PropertyEggg size = classEggg.getPropertyEgggByName("size");
+        size.getSetterEggg().setInt(bean, 5);
+        assertEquals(5, size.getGetterEggg().getInt(bean));
+        assertEquals(5, bean.getSize());
+
+        PropertyEggg total = classEggg.getPropertyEgggByName("total");
+        total.getSetterEggg().setLong(bean, 6L);
+        assertEquals(6L, total.getGetterEggg().getLong(bean));
+
+        PropertyEggg price = classEggg.getPropertyEgggByName("price");
+        price.getSetterEggg().setDouble(bean, 0.5D);
+        assertEquals(0.5D, price.getGetterEggg().getDouble(bean));
+
+        PropertyEggg open = classEggg.getPropertyEgggByName("open");
+        open.getSetterEggg().setBoolean(bean, true);
+        assertTrue(open.getGetterEggg().getBoolean(bean));
+
+        //与 Field:getInt、setInt 等一致：支持宽化转换
+        bean.setLevel((short) 3);
+        bean.setRatio(0.25F);
+        PropertyEggg level = classEggg.getPropertyEgggByName("level");
+        PropertyEggg ratio = classEggg.getPropertyEgggByName("ratio");
+        assertEquals(3, level.getGetterEggg().getInt(bean));
+        assertEquals(3L, level.getGetterEggg().getLong(bean));
+        assertEquals(0.25D, ratio.getGetterEggg().getDouble(bean));
+        assertEquals(5D, size.getGetterEggg().getDouble(bean));
+        total.getSetterEggg().setInt(bean, 7);
+        assertEquals(7L, bean.getTotal());
+        ratio.getSetterEggg().setLong(bean, 2L);
+        assertEquals(2F, bean.getRatio());
+
+        //不能窄化，也不能拆箱或从其它类型转换
+        assertThrows(IllegalArgumentException.class, () -> ratio.getGetterEggg().getInt(bean));
+        assertThrows(IllegalArgumentException.class, () -> size.getSetterEggg().setLong(bean, 1L));
+        assertThrows(IllegalArgumentException.class, () -> level.getSetterEggg().setInt(bean, 1));
+        assertThrows(IllegalArgumentException.class, () -> open.getGetterEggg().getInt(bean));
+
+        PropertyEggg name = classEggg.getPropertyEgggByName("name");
+        assertThrows(IllegalArgumentException.class, () -> name.getGetterEggg().getInt(bean));
+
+        //方法内的异常原样抛出
+        PropertyEggg broken = classEggg.getPropertyEgggByName("broken");
+        assertThrows(IllegalStateException.class, () -> broken.getGetterEggg().getInt(bean));
+    }
+
+    public static class PrimitiveModel {
+        private int age;
+        private long id;
+        private double rate;
+        private boolean flag;
+        private Integer boxed = 1;
+        private static long count;
+        private final int version = 1;
+    }
+
+    public static class BeanModel {
+        private int size;
+        private long total;
+        private double price;
+        private boolean open;
+        private String name = "a";
+        private short level;
+        private float ratio;
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        public void setOpen(boolean open) {
+            this.open = open;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public short getLevel() {
+            return level;
+        }
+
+        public void setLevel(short level) {
+            this.level = level;
+        }
+
+        public float getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(float ratio) {
+            this.ratio = ratio;
+        }
+
+        public int getBroken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 递归类型图测试（自引用、相互引用）
+ */
+public class RecursiveTypeGraphTest {
+    /**
+     * 字段的提炼物为字段类型的 ClassEggg（构建期间重入缓存）
+     */
+    private static Eggg newEggg(boolean lazy, long pauseMillis) {
+        Eggg eggg = new Eggg().withLazy(lazy);
+        eggg.withDigestHandler((classEggg, source, def) -> {
+            if (source instanceof FieldEggg) {
+                pause(pauseMillis);
+                return eggg.getClassEggg(((FieldEggg) source).getTypeEggg());
+            }
+            return def;
+        });
+        return eggg;
+    }
+
+    @Test
+    public void testSelfReference() {
+        for (boolean lazy : new boolean[]{false, true}) {
+            Eggg eggg = newEggg(lazy, 0);
+
+            ClassEggg node = eggg.getClassEggg(Node.class);
+            assertSame(node, eggg.getClassEggg(Node.class));
+
+            //parent 的提炼物就是构建中发布的占位实例（最终即为它自己）
+            assertSame(node, node.getFieldEgggByName("parent").getDigest());
+
+            ClassEggg children = node.getFieldEgggByName("children").getDigest();
+            assertSame(eggg.getClassEggg(node.getFieldEgggByName("children").getGenericType()), children);
+        }
+    }
+
+    @Test
+    public void testMutualReference() {
+        Eggg eggg = newEggg(false, 0);
+
+        ClassEggg a = eggg.getClassEggg(RefA.class);
+        ClassEggg b = eggg.getClassEggg(RefB.class);
+
+        assertSame(b, a.getFieldEgggByName("b").getDigest());
+        assertSame(a, b.getFieldEgggByName("a").getDigest());
+    }
+
+    @Test
+    public void testNavigateDuringBuild() {
+        //构建期间（同线程）导航占位实例：看到的是已加载的部分，不会重复加载或出错
+        List<Integer> seen = new ArrayList<>();
+        Eggg eggg = new Eggg();
+        eggg.withAliasHandler((classEggg, source, def) -> {
+            if (source instanceof FieldEggg && ((FieldEggg) source).getType() == Node.class) {
+                ClassEggg placeholder = eggg.getClassEggg(Node.class);
+                assertSame(classEggg, placeholder);
+
+                seen.add(placeholder.getAllFieldEgggs().size());
+                assertNull(placeholder.getFieldEgggByName("parent"));
+                assertNotNull(placeholder.getPropertyEgggs());
+            }
+            return def;
+        });
+
+        ClassEggg node = eggg.getClassEggg(Node.class);
+        assertEquals(3, node.getAllFieldEgggs().size());
+        assertEquals(3, node.getPropertyEgggs().size());
+        assertNotNull(node.getFieldEgggByName("parent"));
+        assertFalse(seen.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentCyclicBuild() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            for (int round = 0; round < 30; round++) {
+                //停顿一下，让构建相互交错（多个线程相互等待成环）
+                Eggg eggg = newEggg(round % 2 == 1, round % 3);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<ClassEggg>> futures = new ArrayList<>();
+
+                for (int i = 0; i < threads; i++) {
+                    Class<?> type = (i % 3 == 0 ? RefA.class : (i % 3 == 1 ? RefB.class : Node.class));
+
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        ClassEggg c1 = eggg.getClassEggg(type);
+                        //导航整个图
+                        for (FieldEggg fe : c1.getAllFieldEgggs()) {
+                            ClassEggg c2 = fe.getDigest();
+                            c2.getAllFieldEgggs();
+                        }
+                        return c1;
+                    }));
+                }
+
+                start.countDown();
+
+                for (Future<ClassEggg> f1 : futures) {
+                    //超时即为死锁
+                    assertNotNull(f1.get(10, TimeUnit.SECONDS));
+                }
+
+                ClassEggg a = eggg.getClassEggg(RefA.class);
+                ClassEggg b = eggg.getClassEggg(RefB.class);
+                ClassEggg node = eggg.getClassEggg(Node.class);
+
+                for (int i = 0; i < threads; i++) {
+                    ClassEggg c1 = futures.get(i).get();
+                    assertSame(i % 3 == 0 ? a : (i % 3 == 1 ? b : node), c1);
+                }
+
+                assertSame(b, a.getFieldEgggByName("b").getDigest());
+                assertSame(a, b.getFieldEgggByName("a").getDigest());
+                assertSame(node, node.getFieldEgggByName("parent").getDigest());
+                assertEquals(2, a.getAllFieldEgggs().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentNavigateInHandler() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int round = 0; round < 10; round++) {
+                for (boolean lazy : new boolean[]{false, true}) {
+                    //两个线程各自持有 RefA、RefB 的加载锁，再在处理器里导航对方
+                    CountDownLatch latch = new CountDownLatch(2);
+                    ThreadLocal<Deque<ClassEggg>> building = ThreadLocal.withInitial(ArrayDeque::new);
+                    List<String> partials = Collections.synchronizedList(new ArrayList<>());
+
+                    Eggg eggg = new Eggg().withLazy(lazy);
+                    eggg.withDigestHandler((classEggg, source, def) -> {
+                        if (source instanceof FieldEggg && ((FieldEggg) source).getName().length() == 1) {
+                            building.get().push(classEggg);
+                            try {
+                                await(latch);
+
+                                ClassEggg other = eggg.getClassEggg(((FieldEggg) source).getTypeEggg());
+                                int fieldCount = other.getAllFieldEgggs().size();
+                                int propertyCount = other.getPropertyEgggs().size();
+
+                                //只有当前线程自己正在构建的类型，才可以看到部分
+                                if (building.get().contains(other) == false && (fieldCount != 2 || propertyCount != 2)) {
+                                    partials.add(other.getTypeEggg().getType().getSimpleName() + ":" + fieldCount + "/" + propertyCount);
+                                }
+                                return other;
+                            } finally {
+                                building.get().pop();
+                            }
+                        }
+                        return def;
+                    });
+
+                    Future<ClassEggg> f1 = executor.submit(() -> eggg.getClassEggg(RefA.class).getFieldEgggByName("b").getDigest());
+                    Future<ClassEggg> f2 = executor.submit(() -> eggg.getClassEggg(RefB.class).getFieldEgggByName("a").getDigest());
+
+                    //超时即为死锁
+                    ClassEggg b = f1.get(10, TimeUnit.SECONDS);
+                    ClassEggg a = f2.get(10, TimeUnit.SECONDS);
+
+                    assertSame(eggg.getClassEggg(RefA.class), a);
+                    assertSame(eggg.getClassEggg(RefB.class), b);
+                    assertSame(a, b.getFieldEgggByName("a").getDigest());
+                    assertSame(b, a.getFieldEgggByName("b").getDigest());
+                    assertEquals(2, a.getAllFieldEgggs().size());
+                    assertEquals(2, b.getAllFieldEgggs().size());
+                    assertEquals(2, a.getPropertyEgggs().size());
+                    assertEquals(2, b.getPropertyEgggs().size());
+                    assertEquals(Collections.emptyList(), partials);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        //只在第一次等（之后立即通过）
+        latch.countDown();
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void pause(long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public static class Node {
+        private String name;
+        private Node parent;
+        private List<Node> children;
+    }
+
+    public static class RefA {
+        private String name;
+        private RefB b;
+    }
+
+    public static class RefB {
+        private String name;
+        private RefA a;
+    }
+}
@@ -315,6 +315,31 @@ class TypeImplTest {
         assertTrue(toString.contains("Comparable"));
     }
 
+    // ==================== 不可变测试 ====================
+
+    @Test
+    @DisplayName("Type 实现类 - 不可变（修改入参或返回的数组不影响实例）")
+    void testImmutable() {
+        Type[] args = new Type[]{String.class};
+        GenericResolver.ParameterizedTypeImpl listType = new GenericResolver.ParameterizedTypeImpl(List.class, args);
+        int hash = listType.hashCode();
+
+        args[0] = Long.class;
+        listType.getActualTypeArguments()[0] = Long.class;
+
+        assertEquals(String.class, listType.getActualTypeArguments()[0]);
+        assertEquals(hash, listType.hashCode());
+        assertEquals(new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{String.class}), listType);
+
+        Type[] bounds = new Type[]{Number.class};
+        GenericResolver.WildcardTypeImpl wildcardType = new GenericResolver.WildcardTypeImpl(bounds, null);
+        bounds[0] = String.class;
+        wildcardType.getUpperBounds()[0] = String.class;
+
+        assertEquals(Number.class, wildcardType.getUpperBounds()[0]);
+        assertEquals(new GenericResolver.WildcardTypeImpl(new Type[]{Number.class}, null), wildcardType);
+    }
+
     // ==================== 辅助方法 ====================
 
     /**
@@ -0,0 +1,90 @@
+package org.noear.eggg;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 类型驻留测试
+ */
+public class TypeInternTest {
+    public List<String> list;
+    public Map<String, List<Integer>> map;
+    public List<? extends Number> wildcard;
+    public List<String>[] array;
+
+    private static Type typeOf(String name) throws Exception {
+        return TypeInternTest.class.getField(name).getGenericType();
+    }
+
+    @Test
+    public void testSameHashAsJdk() throws Exception {
+        ParameterizedType jdkList = (ParameterizedType) typeOf("list");
+        Type implList = new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{String.class});
+
+        assertEquals(jdkList, implList);
+        assertEquals(jdkList.hashCode(), implList.hashCode());
+
+        WildcardType jdkWildcard = (WildcardType) ((ParameterizedType) typeOf("wildcard")).getActualTypeArguments()[0];
+        Type implWildcard = new GenericResolver.WildcardTypeImpl(new Type[]{Number.class}, null);
+        assertEquals(jdkWildcard.hashCode(), implWildcard.hashCode());
+
+        GenericArrayType jdkArray = (GenericArrayType) typeOf("array");
+        Type implArray = new GenericResolver.GenericArrayTypeImpl(implList);
+        assertEquals(jdkArray.hashCode(), implArray.hashCode());
+    }
+
+    @Test
+    public void testIntern() throws Exception {
+        GenericResolver resolver = new GenericResolver();
+
+        Type jdkMap = typeOf("map");
+        Type implMap = new GenericResolver.ParameterizedTypeImpl(Map.class, new Type[]{String.class,
+                new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{Integer.class})});
+
+        Type canonical = resolver.intern(jdkMap);
+        assertTrue(canonical instanceof GenericResolver.ParameterizedTypeImpl);
+        assertEquals(jdkMap, canonical);
+        assertSame(canonical, resolver.intern(implMap));
+        assertSame(canonical, resolver.intern(canonical));
+
+        //内部的类型也是规范实例
+        Type innerList = ((ParameterizedType) canonical).getActualTypeArguments()[1];
+        assertSame(innerList, resolver.intern(new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{Integer.class})));
+
+        assertSame(resolver.intern(typeOf("wildcard")), resolver.intern(typeOf("wildcard")));
+        assertSame(resolver.intern(typeOf("array")), resolver.intern(typeOf("array")));
+        assertSame(String.class, resolver.intern(String.class));
+    }
+
+    @Test
+    public void testOneTypeEggg() throws Exception {
+        Eggg eggg = new Eggg();
+
+        Type jdkList = typeOf("list");
+        Type implList = new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{String.class});
+
+        assertSame(eggg.getTypeEggg(jdkList), eggg.getTypeEggg(implList));
+        assertSame(eggg.getTypeEggg(typeOf("map")), eggg.getTypeEggg(eggg.getTypeEggg(typeOf("map")).getGenericType()));
+    }
+
+    @Test
+    public void testWeak() throws Exception {
+        TypeInterner interner = new TypeInterner();
+        interner.intern(new GenericResolver.ParameterizedTypeImpl(List.class, new Type[]{Long.class}));
+
+        for (int i = 0; i < 50 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, interner.size());
+    }
+}
@@ -2,6 +2,7 @@ package org.noear.eggg.generic;
 
 import org.junit.jupiter.api.Test;
 import org.noear.eggg.Eggg;
+import org.noear.eggg.TypeEggg;
 
 import java.lang.reflect.Type;
 import java.util.HashMap;
@@ -77,6 +78,19 @@ public class GenericUtilTest {
         assert tmp.get(0) == UserD.class;
     }
 
+    @Test
+    public void case7() {
+        TypeEggg owner = eggg.getTypeEggg(DemoService.class);
+
+        Map<String, Type> info1 = eggg.findGenericInfo(owner, ServiceImpl.class);
+        Map<String, Type> info2 = eggg.findGenericInfo(owner, ServiceImpl.class);
+
+        //同一个 (owner, declaringClass) 只查找一次
+        assert info1 == info2;
+        assert info1.get("M") == DemoMapper.class;
+        assert info1.get("T") == Demo.class;
+    }
+
     private interface IDemo<T> {
     }
 